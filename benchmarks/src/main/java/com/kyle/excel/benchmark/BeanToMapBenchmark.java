@@ -0,0 +1,80 @@
+package com.kyle.excel.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.kyle.excel.metadata.ExcelBeanMetadata;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.metadata.ExcelFieldAccessor;
+import com.kyle.excel.metadata.ExcelFieldMetadata;
+import com.kyle.excel.util.BeanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 读取Bean属性值的方式对比：{@link BeanUtil} 的各个 describe 方式 与 导出使用的 {@link ExcelFieldAccessor}
+ * <p>与文件格式无关，xls 和 xlsx 导出使用同一读取路径。</p>
+ *
+ * @package: com.kyle.excel.benchmark
+ * @className: BeanToMapBenchmark
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 20:05
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanToMapBenchmark {
+    @Param({"narrow", "wide"})
+    public String shape;
+
+    private ExcelBeanValidator bean;
+    private ExcelFieldAccessor[] accessors;
+
+    @Setup
+    public void setup() {
+        bean = BenchmarkTemplates.datas(shape, 1).get(0);
+        List<ExcelFieldMetadata> fields = ExcelBeanMetadata.of(bean.getClass()).getAnnotatedFields();
+        accessors = new ExcelFieldAccessor[fields.size()];
+        for (int i = 0; i < accessors.length; i++) {
+            accessors[i] = fields.get(i).getAccessor();
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> objectToMap() {
+        return BeanUtil.objectToMap(bean);
+    }
+
+    @Benchmark
+    public Map<String, String> objectToMapStr() {
+        return BeanUtil.objectToMapStr(bean);
+    }
+
+    @Benchmark
+    public void objectToMapAny(Blackhole blackhole) {
+        for (Object value : BeanUtil.objectToMapAny(bean).values()) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void fieldAccessors(Blackhole blackhole) {
+        for (ExcelFieldAccessor accessor : accessors) {
+            blackhole.consume(accessor.get(bean));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.kyle.excel.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.kyle.excel.ExcelSugar;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * 基准测试使用的模板和数据
+ * <p>模板第0行为标题，第1行为表头，第2行为带边框样式的数据行，数据从第2行开始写入(startRowIndex = 2)。</p>
+ *
+ * @package: com.kyle.excel.benchmark
+ * @className: BenchmarkTemplates
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 19:45
+ */
+public final class BenchmarkTemplates {
+    /**
+     * 数据的起始行
+     */
+    public static final int START_ROW_INDEX = 2;
+
+    private BenchmarkTemplates() {
+    }
+
+    /**
+     * 在临时目录中创建模板
+     *
+     * @param format  xls 或 xlsx
+     * @param headers 表头
+     * @return 模板文件
+     */
+    public static File createTemplate(final String format, final String[] headers) throws IOException {
+        File file = Files.createTempFile("excelsugar-benchmark", "." + format).toFile();
+        file.deleteOnExit();
+        try (Workbook workbook = ExcelSugar.EXCEL_XLS.equals(format) ? new HSSFWorkbook() : new XSSFWorkbook();
+             OutputStream outputStream = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("data");
+            sheet.createRow(0).createCell(0).setCellValue("Benchmark");
+            Row header = sheet.createRow(START_ROW_INDEX - 1);
+            Row style = sheet.createRow(START_ROW_INDEX);
+            CellStyle cellStyle = workbook.createCellStyle();
+            cellStyle.setBorderBottom(BorderStyle.THIN);
+            for (int i = 0; i < headers.length; i++) {
+                header.createCell(i).setCellValue(headers[i]);
+                style.createCell(i).setCellStyle(cellStyle);
+            }
+            workbook.write(outputStream);
+        }
+        return file;
+    }
+
+    /**
+     * 表头
+     *
+     * @param shape narrow 或 wide
+     * @return 表头
+     */
+    public static String[] headers(final String shape) {
+        return "wide".equals(shape) ? WideBean.HEADERS : NarrowBean.HEADERS;
+    }
+
+    /**
+     * Bean类
+     *
+     * @param shape narrow 或 wide
+     * @return Bean类
+     */
+    public static Class<? extends ExcelBeanValidator> beanClass(final String shape) {
+        return "wide".equals(shape) ? WideBean.class : NarrowBean.class;
+    }
+
+    /**
+     * 创建测试数据
+     *
+     * @param shape narrow 或 wide
+     * @param rows  行数
+     * @return 测试数据
+     */
+    public static List<ExcelBeanValidator> datas(final String shape, final int rows) {
+        List<ExcelBeanValidator> datas = new ArrayList<ExcelBeanValidator>(rows);
+        for (int i = 0; i < rows; i++) {
+            datas.add("wide".equals(shape) ? new WideBean(i) : new NarrowBean(i));
+        }
+        return datas;
+    }
+}
@@ -0,0 +1,82 @@
+package com.kyle.excel.benchmark;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.kyle.excel.ExcelSugar;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.metadata.ExcelCellProperty;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 测量 {@link ExcelSugar#getBeanNameColumnIndexMap} 的耗时（注解映射 和 headerMap映射）
+ *
+ * @package: com.kyle.excel.benchmark
+ * @className: ColumnMappingBenchmark
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 20:00
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnMappingBenchmark {
+    @Param({"xls", "xlsx"})
+    public String format;
+
+    @Param({"narrow", "wide"})
+    public String shape;
+
+    private Workbook workbook;
+    private Sheet sheet;
+    private Class<? extends ExcelBeanValidator> beanClass;
+    private Map<String, String> headerMap;
+
+    @Setup
+    public void setup() throws IOException {
+        String[] headers = BenchmarkTemplates.headers(shape);
+        workbook = ExcelSugar.initWorkbook(BenchmarkTemplates.createTemplate(format, headers).getAbsolutePath());
+        sheet = workbook.getSheetAt(0);
+        beanClass = BenchmarkTemplates.beanClass(shape);
+
+        // 与注解相同的映射，以 headerMap 方式给出
+        headerMap = new LinkedHashMap<String, String>();
+        Map<String, ExcelCellProperty> annotated = ExcelSugar.getBeanNameColumnIndexMap(
+                sheet, BenchmarkTemplates.START_ROW_INDEX - 1, beanClass, null);
+        for (Map.Entry<String, ExcelCellProperty> entry : annotated.entrySet()) {
+            headerMap.put(entry.getKey(), entry.getValue().getName());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExcelSugar.close(workbook);
+    }
+
+    @Benchmark
+    public Map<String, ExcelCellProperty> annotationMapping() {
+        return ExcelSugar.getBeanNameColumnIndexMap(sheet, BenchmarkTemplates.START_ROW_INDEX - 1, beanClass, null);
+    }
+
+    @Benchmark
+    public Map<String, ExcelCellProperty> headerMapMapping() {
+        return ExcelSugar.getBeanNameColumnIndexMap(sheet, BenchmarkTemplates.START_ROW_INDEX - 1, beanClass, headerMap);
+    }
+}
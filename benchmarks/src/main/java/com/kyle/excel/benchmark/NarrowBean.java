@@ -0,0 +1,68 @@
+package com.kyle.excel.benchmark;
+
+import java.util.Date;
+
+import com.kyle.excel.annotation.ExcelProperty;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+
+/**
+ * 4列的窄Bean
+ *
+ * @package: com.kyle.excel.benchmark
+ * @className: NarrowBean
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 19:40
+ */
+public class NarrowBean implements ExcelBeanValidator {
+    public static final String[] HEADERS = {"Name", "Age", "Score", "Birthday"};
+
+    @ExcelProperty(name = "Name")
+    private String name;
+    @ExcelProperty(name = "Age")
+    private int age;
+    @ExcelProperty(name = "Score")
+    private double score;
+    @ExcelProperty(name = "Birthday", dateFormat = "yyyy-MM-dd")
+    private Date birthday;
+
+    public NarrowBean() {}
+
+    public NarrowBean(int i) {
+        this.name = "name-" + i;
+        this.age = i % 100;
+        this.score = i * 1.25;
+        this.birthday = new Date(1000000000000L + i * 60000L);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public Date getBirthday() {
+        return birthday;
+    }
+
+    public void setBirthday(Date birthday) {
+        this.birthday = birthday;
+    }
+}
@@ -0,0 +1,94 @@
+package com.kyle.excel.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import com.kyle.excel.ExcelSugar;
+import com.kyle.excel.metadata.ExcelCellProperty;
+import com.kyle.excel.write.ExcelCellStylePool;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 按值类型测量 {@link ExcelSugar#setCellValue} 的耗时
+ *
+ * @package: com.kyle.excel.benchmark
+ * @className: SetCellValueBenchmark
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 19:55
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetCellValueBenchmark {
+    @Param({"xls", "xlsx"})
+    public String format;
+
+    @Param({"string", "int", "double", "boolean", "date", "prefixed"})
+    public String type;
+
+    private Workbook workbook;
+    private Cell cell;
+    private Object value;
+    private ExcelCellProperty property;
+    private ExcelCellStylePool cellStylePool;
+
+    @Setup
+    public void setup() {
+        workbook = ExcelSugar.EXCEL_XLS.equals(format) ? new HSSFWorkbook() : new XSSFWorkbook();
+        cell = workbook.createSheet("data").createRow(0).createCell(0);
+        cellStylePool = new ExcelCellStylePool(workbook);
+        property = new ExcelCellProperty();
+        property.setIndex(0);
+        switch (type) {
+            case "int":
+                value = 42;
+                break;
+            case "double":
+                value = 42.5d;
+                break;
+            case "boolean":
+                value = Boolean.TRUE;
+                break;
+            case "date":
+                value = new Date(1000000000000L);
+                property.setDateFormat("yyyy-MM-dd");
+                break;
+            case "prefixed":
+                value = 42.5d;
+                property.setPrefix("$");
+                break;
+            default:
+                value = "benchmark";
+                break;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExcelSugar.close(workbook);
+    }
+
+    @Benchmark
+    public Cell setCellValue() {
+        ExcelSugar.setCellValue(cell, value, property, cellStylePool);
+        return cell;
+    }
+}
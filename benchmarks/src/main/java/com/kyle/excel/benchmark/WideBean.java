@@ -0,0 +1,357 @@
+package com.kyle.excel.benchmark;
+
+import java.util.Date;
+
+import com.kyle.excel.annotation.ExcelProperty;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+
+/**
+ * 30列的宽Bean（字符串、整数、小数、日期、布尔混合）
+ *
+ * @package: com.kyle.excel.benchmark
+ * @className: WideBean
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 19:42
+ */
+public class WideBean implements ExcelBeanValidator {
+    public static final String[] HEADERS = {
+            "Col0", "Col1", "Col2", "Col3", "Col4", "Col5", "Col6", "Col7", "Col8", "Col9",
+            "Col10", "Col11", "Col12", "Col13", "Col14", "Col15", "Col16", "Col17", "Col18", "Col19",
+            "Col20", "Col21", "Col22", "Col23", "Col24", "Col25", "Col26", "Col27", "Col28", "Col29"};
+
+    @ExcelProperty(name = "Col0")
+    private String text0;
+    @ExcelProperty(name = "Col1")
+    private String text1;
+    @ExcelProperty(name = "Col2")
+    private String text2;
+    @ExcelProperty(name = "Col3")
+    private String text3;
+    @ExcelProperty(name = "Col4")
+    private String text4;
+    @ExcelProperty(name = "Col5")
+    private String text5;
+    @ExcelProperty(name = "Col6")
+    private String text6;
+    @ExcelProperty(name = "Col7")
+    private String text7;
+    @ExcelProperty(name = "Col8")
+    private String text8;
+    @ExcelProperty(name = "Col9")
+    private String text9;
+    @ExcelProperty(name = "Col10")
+    private int count10;
+    @ExcelProperty(name = "Col11")
+    private int count11;
+    @ExcelProperty(name = "Col12")
+    private int count12;
+    @ExcelProperty(name = "Col13")
+    private int count13;
+    @ExcelProperty(name = "Col14")
+    private int count14;
+    @ExcelProperty(name = "Col15")
+    private int count15;
+    @ExcelProperty(name = "Col16")
+    private int count16;
+    @ExcelProperty(name = "Col17")
+    private int count17;
+    @ExcelProperty(name = "Col18")
+    private double amount18;
+    @ExcelProperty(name = "Col19")
+    private double amount19;
+    @ExcelProperty(name = "Col20")
+    private double amount20;
+    @ExcelProperty(name = "Col21")
+    private double amount21;
+    @ExcelProperty(name = "Col22")
+    private double amount22;
+    @ExcelProperty(name = "Col23")
+    private double amount23;
+    @ExcelProperty(name = "Col24", dateFormat = "yyyy-MM-dd HH:mm")
+    private Date date24;
+    @ExcelProperty(name = "Col25", dateFormat = "yyyy-MM-dd HH:mm")
+    private Date date25;
+    @ExcelProperty(name = "Col26", dateFormat = "yyyy-MM-dd HH:mm")
+    private Date date26;
+    @ExcelProperty(name = "Col27")
+    private boolean flag27;
+    @ExcelProperty(name = "Col28")
+    private boolean flag28;
+    @ExcelProperty(name = "Col29")
+    private boolean flag29;
+
+    public WideBean() {}
+
+    public WideBean(int i) {
+        this.text0 = "text0-" + i;
+        this.text1 = "text1-" + i;
+        this.text2 = "text2-" + i;
+        this.text3 = "text3-" + i;
+        this.text4 = "text4-" + i;
+        this.text5 = "text5-" + i;
+        this.text6 = "text6-" + i;
+        this.text7 = "text7-" + i;
+        this.text8 = "text8-" + i;
+        this.text9 = "text9-" + i;
+        this.count10 = i + 10;
+        this.count11 = i + 11;
+        this.count12 = i + 12;
+        this.count13 = i + 13;
+        this.count14 = i + 14;
+        this.count15 = i + 15;
+        this.count16 = i + 16;
+        this.count17 = i + 17;
+        this.amount18 = i * 18.5;
+        this.amount19 = i * 19.5;
+        this.amount20 = i * 20.5;
+        this.amount21 = i * 21.5;
+        this.amount22 = i * 22.5;
+        this.amount23 = i * 23.5;
+        this.date24 = new Date(1000000000000L + i * 60000L + 24);
+        this.date25 = new Date(1000000000000L + i * 60000L + 25);
+        this.date26 = new Date(1000000000000L + i * 60000L + 26);
+        this.flag27 = (i + 27) % 2 == 0;
+        this.flag28 = (i + 28) % 2 == 0;
+        this.flag29 = (i + 29) % 2 == 0;
+    }
+
+    public String getText0() {
+        return text0;
+    }
+
+    public void setText0(String text0) {
+        this.text0 = text0;
+    }
+
+    public String getText1() {
+        return text1;
+    }
+
+    public void setText1(String text1) {
+        this.text1 = text1;
+    }
+
+    public String getText2() {
+        return text2;
+    }
+
+    public void setText2(String text2) {
+        this.text2 = text2;
+    }
+
+    public String getText3() {
+        return text3;
+    }
+
+    public void setText3(String text3) {
+        this.text3 = text3;
+    }
+
+    public String getText4() {
+        return text4;
+    }
+
+    public void setText4(String text4) {
+        this.text4 = text4;
+    }
+
+    public String getText5() {
+        return text5;
+    }
+
+    public void setText5(String text5) {
+        this.text5 = text5;
+    }
+
+    public String getText6() {
+        return text6;
+    }
+
+    public void setText6(String text6) {
+        this.text6 = text6;
+    }
+
+    public String getText7() {
+        return text7;
+    }
+
+    public void setText7(String text7) {
+        this.text7 = text7;
+    }
+
+    public String getText8() {
+        return text8;
+    }
+
+    public void setText8(String text8) {
+        this.text8 = text8;
+    }
+
+    public String getText9() {
+        return text9;
+    }
+
+    public void setText9(String text9) {
+        this.text9 = text9;
+    }
+
+    public int getCount10() {
+        return count10;
+    }
+
+    public void setCount10(int count10) {
+        this.count10 = count10;
+    }
+
+    public int getCount11() {
+        return count11;
+    }
+
+    public void setCount11(int count11) {
+        this.count11 = count11;
+    }
+
+    public int getCount12() {
+        return count12;
+    }
+
+    public void setCount12(int count12) {
+        this.count12 = count12;
+    }
+
+    public int getCount13() {
+        return count13;
+    }
+
+    public void setCount13(int count13) {
+        this.count13 = count13;
+    }
+
+    public int getCount14() {
+        return count14;
+    }
+
+    public void setCount14(int count14) {
+        this.count14 = count14;
+    }
+
+    public int getCount15() {
+        return count15;
+    }
+
+    public void setCount15(int count15) {
+        this.count15 = count15;
+    }
+
+    public int getCount16() {
+        return count16;
+    }
+
+    public void setCount16(int count16) {
+        this.count16 = count16;
+    }
+
+    public int getCount17() {
+        return count17;
+    }
+
+    public void setCount17(int count17) {
+        this.count17 = count17;
+    }
+
+    public double getAmount18() {
+        return amount18;
+    }
+
+    public void setAmount18(double amount18) {
+        this.amount18 = amount18;
+    }
+
+    public double getAmount19() {
+        return amount19;
+    }
+
+    public void setAmount19(double amount19) {
+        this.amount19 = amount19;
+    }
+
+    public double getAmount20() {
+        return amount20;
+    }
+
+    public void setAmount20(double amount20) {
+        this.amount20 = amount20;
+    }
+
+    public double getAmount21() {
+        return amount21;
+    }
+
+    public void setAmount21(double amount21) {
+        this.amount21 = amount21;
+    }
+
+    public double getAmount22() {
+        return amount22;
+    }
+
+    public void setAmount22(double amount22) {
+        this.amount22 = amount22;
+    }
+
+    public double getAmount23() {
+        return amount23;
+    }
+
+    public void setAmount23(double amount23) {
+        this.amount23 = amount23;
+    }
+
+    public Date getDate24() {
+        return date24;
+    }
+
+    public void setDate24(Date date24) {
+        this.date24 = date24;
+    }
+
+    public Date getDate25() {
+        return date25;
+    }
+
+    public void setDate25(Date date25) {
+        this.date25 = date25;
+    }
+
+    public Date getDate26() {
+        return date26;
+    }
+
+    public void setDate26(Date date26) {
+        this.date26 = date26;
+    }
+
+    public boolean isFlag27() {
+        return flag27;
+    }
+
+    public void setFlag27(boolean flag27) {
+        this.flag27 = flag27;
+    }
+
+    public boolean isFlag28() {
+        return flag28;
+    }
+
+    public void setFlag28(boolean flag28) {
+        this.flag28 = flag28;
+    }
+
+    public boolean isFlag29() {
+        return flag29;
+    }
+
+    public void setFlag29(boolean flag29) {
+        this.flag29 = flag29;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kyle.excel.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.kyle.excel.ExcelSugar;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.write.ExcelWriteConfig;
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 导出吞吐量（行/秒）
+ * <p>每次调用以模板导出 {@link #ROWS} 行到空输出流，结果按行计算；配合 -prof gc 时 gc.alloc.rate.norm 即每行的分配字节数。</p>
+ *
+ * @package: com.kyle.excel.benchmark
+ * @className: WriteExcelBenchmark
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 19:50
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteExcelBenchmark {
+    public static final int ROWS = 2000;
+
+    @Param({"xls", "xlsx"})
+    public String format;
+
+    @Param({"narrow", "wide"})
+    public String shape;
+
+    @Param({"false", "true"})
+    public boolean streaming;
+
+    private String template;
+    private List<ExcelBeanValidator> datas;
+    private ExcelWriteConfig config;
+
+    @Setup
+    public void setup() throws IOException {
+        File file = BenchmarkTemplates.createTemplate(format, BenchmarkTemplates.headers(shape));
+        template = file.getAbsolutePath();
+        datas = BenchmarkTemplates.datas(shape, ROWS);
+        config = streaming ? ExcelWriteConfig.streaming(ExcelWriteConfig.DEFAULT_ROW_ACCESS_WINDOW_SIZE) : null;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void writeExcel() {
+        ExcelSugar.saveAsExcel(template, 0, BenchmarkTemplates.START_ROW_INDEX, datas, null,
+                NullOutputStream.NULL_OUTPUT_STREAM, config);
+    }
+}
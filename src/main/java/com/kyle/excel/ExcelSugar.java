@@ -1,58 +1,74 @@
 package com.kyle.excel;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import com.kyle.excel.annotation.ExcelProperty;
+import com.kyle.excel.enums.ExcelTypeEnum;
+import com.kyle.excel.metadata.ExcelBeanMapper;
+import com.kyle.excel.metadata.ExcelBeanMetadata;
 import com.kyle.excel.metadata.ExcelBeanValidator;
 import com.kyle.excel.metadata.ExcelCellProperty;
+import com.kyle.excel.metadata.ExcelCellStyleDefinition;
+import com.kyle.excel.metadata.ExcelColumnMapping;
+import com.kyle.excel.metadata.ExcelFieldMetadata;
+import com.kyle.excel.read.ExcelRowHandler;
+import com.kyle.excel.read.ExcelReader;
+import com.kyle.excel.read.ExcelXlsReader;
+import com.kyle.excel.read.ExcelXlsxReader;
 import com.kyle.excel.util.FileUtil;
+import com.kyle.excel.write.ExcelCellStylePool;
+import com.kyle.excel.write.ExcelCsvWriter;
+import com.kyle.excel.write.ExcelPageSupplier;
+import com.kyle.excel.write.ExcelRolloverConfig;
+import com.kyle.excel.write.ExcelRolloverWriter;
+import com.kyle.excel.write.ExcelSheetData;
+import com.kyle.excel.write.ExcelTemplateCache;
+import com.kyle.excel.write.ExcelWriteConfig;
+import com.kyle.excel.write.ExcelWriter;
 import org.apache.commons.beanutils.ConvertUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.DataFormat;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.util.IOUtils;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 
 public class ExcelSugar {
-    private static final String EXCEL_XLS = "xls";
-    private static final String EXCEL_XLSX = "xlsx";
-    private static Workbook workbook = null;
+    public static final String EXCEL_XLS = "xls";
+    public static final String EXCEL_XLSX = "xlsx";
 
     /**
-     * 初始化Workbook工作簿
+     * 初始化Workbook工作簿（模板内容通过 {@link ExcelTemplateCache} 读取）
      *
      * @param fileFullName
+     * @return Workbook工作簿
      */
-    public static void initWorkbook(final String fileFullName) {
-        try {
-            FileInputStream fileInputStream = new FileInputStream(fileFullName);
-            initWorkbook(fileInputStream, FileUtil.getExtension(fileFullName));
-        } catch (FileNotFoundException e) {
+    public static Workbook initWorkbook(final String fileFullName) {
+        try (InputStream inputStream = ExcelTemplateCache.getInstance().openTemplate(fileFullName)) {
+            return initWorkbook(inputStream, FileUtil.getExtension(fileFullName));
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
@@ -62,17 +78,19 @@ public class ExcelSugar {
      *
      * @param inputStream
      * @param fileExtension
+     * @return Workbook工作簿
      */
-    public static void initWorkbook(final InputStream inputStream, String fileExtension) {
+    public static Workbook initWorkbook(final InputStream inputStream, String fileExtension) {
         try {
             if (EXCEL_XLS.equals(fileExtension.trim().toLowerCase())) {
-                workbook = new HSSFWorkbook(inputStream);
+                return new HSSFWorkbook(inputStream);
             } else if (EXCEL_XLSX.equals(fileExtension.trim().toLowerCase())) {
-                workbook = new XSSFWorkbook(inputStream);
+                return new XSSFWorkbook(inputStream);
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
     }
 
     /**
@@ -85,6 +103,7 @@ public class ExcelSugar {
      * @param data          待写入数据
      * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
      * @param outputStream 保存的输出流
+     * @param config        写入配置
      *
      * @return outputStream 输出流
      */
@@ -94,18 +113,18 @@ public class ExcelSugar {
             final int startRowIndex,
             final List<T> data,
             final Map<String, String> headerMap,
-            OutputStream outputStream) {
+            OutputStream outputStream,
+            final ExcelWriteConfig config) {
 
-        if (!isAllowedFile(fileFullName)) {
-            throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
+        outputStream = outputStream == null ? new ByteArrayOutputStream() : outputStream;
+
+        try (ExcelWriter writer = new ExcelWriter(fileFullName, config)) {
+            writer.write(sheetIndex, startRowIndex, data, headerMap);
+            // 保存Excel
+            writer.save(outputStream);
         }
 
-        // 转换文件为输入流
-        File file = FileUtil.getFile(fileFullName);
-        InputStream fileInputStream = FileUtil.openInputStream(file);
-        boolean isOffice2003 = FileUtil.isExtensionIgnoreCase(fileFullName, EXCEL_XLS);
-        outputStream = outputStream == null ? new ByteArrayOutputStream() : outputStream;
-        return writeExcel(fileInputStream, isOffice2003, sheetIndex, startRowIndex, data, headerMap, outputStream);
+        return outputStream;
     }
 
     /**
@@ -119,6 +138,7 @@ public class ExcelSugar {
      * @param datas         待写入数据
      * @param headerMap     T 和 Excel 映射集合 (K:T的属性,V:Excel列头标题)
      * @param outputStream 保存的输出流
+     * @param config        写入配置
      *
      * @return outputStream 输出流
      */
@@ -126,66 +146,23 @@ public class ExcelSugar {
             final InputStream inputStream,
             final boolean isOffice2003,
             final int sheetIndex,
-            int startRowIndex,
+            final int startRowIndex,
             final List<T> datas,
             final Map<String, String> headerMap,
-            OutputStream outputStream) {
+            OutputStream outputStream,
+            final ExcelWriteConfig config) {
 
         if(datas == null || datas.size() < 1) {
             throw new IllegalArgumentException("datas cannot be null.");
         }
 
-        try {
-            outputStream = outputStream == null ? new ByteArrayOutputStream() : outputStream;
-
-            // 初始化Workbook工作簿
-            initWorkbook(inputStream, isOffice2003 ? EXCEL_XLS : EXCEL_XLSX);
-            // 读取Sheet
-            Sheet sheet = workbook.getSheetAt(sheetIndex);
-
-            // 获取导入数据的Bean中的属性Name 和 Excel列属性 的映射
-            Map<String, ExcelColumnBean> beanNameColumnIndexMap = getBeanNameColumnIndexMap(sheet, startRowIndex - 1, datas.get(0), headerMap);
-
-            // 写入数据
-            for (T data : datas) {
-                if(data == null) continue;
-
-                // 获取数据
-                Map<String, Object> dataMap = BeanUtil.objectToMap(data);
-                for (Entry<String, Object> dataEntry : dataMap.entrySet()) {
-                    if(dataEntry == null) continue;
-
-                    String dataKey = dataEntry.getKey();
-                    Object dataValue = dataEntry.getValue();
-
-                    // 获取注解
-                    ExcelColumnBean excelColumnBean = beanNameColumnIndexMap.get(dataKey);
-
-                    if(excelColumnBean == null) continue;
-
-                    // 获取列索引
-                    int cellnum = excelColumnBean.getIndex();
-
-                    // 获取当前单元格
-                    Cell cell = getCell(sheet, startRowIndex, cellnum);
-
-                    // 设置单元格值 和 样式
-                    setCellValue(cell, dataValue, excelColumnBean);
-
-                    // 设置列宽度
-                    if(startRowIndex == 0 && excelColumnBean.getWith() > 0) {
-                        sheet.setColumnWidth(cellnum, excelColumnBean.getWith());
-                    }
-                }
-
-                startRowIndex++;
-            }
+        outputStream = outputStream == null ? new ByteArrayOutputStream() : outputStream;
 
+        try (ExcelWriter writer = new ExcelWriter(inputStream, isOffice2003, config)) {
+            writer.write(sheetIndex, startRowIndex, datas, headerMap);
             // 保存Excel
-            save(outputStream);
+            writer.save(outputStream);
         } finally {
-            // 关闭workbook
-            close();
             // 关闭输入流
             IOUtils.closeQuietly(inputStream);
         }
@@ -211,32 +188,36 @@ public class ExcelSugar {
             final List<T> data,
             final Map<String, String> headerMap,
             final String localFileFullName) {
+        saveAsExcel(fileFullName, sheetIndex, startRowIndex, data, headerMap, localFileFullName, null);
+    }
 
-        ByteArrayOutputStream byteArrayOutputStream = null;
-        FileOutputStream fileOutputStream = null;
-        try {
-            if (!isAllowedFile(fileFullName)) {
-                throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
-            }
-
-            if (!FileUtil.isExistsDic(localFileFullName)) {
-                throw new FileNotFoundException("File '" + localFileFullName + "' directory does not exist");
-            }
-
-            byteArrayOutputStream = (ByteArrayOutputStream) writeExcel(fileFullName, sheetIndex, startRowIndex, data, headerMap, null);
+    /**
+     * 将数据写入Excel，并保存文件到 localFileFullName
+     *
+     * @param <T>
+     * @param fileFullName  文件全路径
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param data          待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param localFileFullName 保存本地文件全路径
+     * @param config        写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final List<T> data,
+            final Map<String, String> headerMap,
+            final String localFileFullName,
+            final ExcelWriteConfig config) {
 
-            fileOutputStream = new FileOutputStream(localFileFullName);
-            byteArrayOutputStream.writeTo(fileOutputStream);
-            fileOutputStream.flush();
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
-        } finally {
-            // 关闭输入流
-            if(byteArrayOutputStream != null) IOUtils.closeQuietly(byteArrayOutputStream);
-            if(fileOutputStream != null) IOUtils.closeQuietly(fileOutputStream);
+        if (!isAllowedFile(fileFullName)) {
+            throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
         }
+
+        saveToFile(localFileFullName, outputStream ->
+                writeExcel(fileFullName, sheetIndex, startRowIndex, data, headerMap, outputStream, config));
     }
 
     /**
@@ -259,27 +240,64 @@ public class ExcelSugar {
             final List<T> data,
             final Map<String, String> headerMap,
             final String localFileFullName) {
+        saveAsExcel(inputStream, isOffice2003, sheetIndex, startRowIndex, data, headerMap, localFileFullName, null);
+    }
 
-        ByteArrayOutputStream byteArrayOutputStream = null;
-        FileOutputStream fileOutputStream = null;
+    /**
+     * 将数据写入Excel，并保存文件到 localFileFullName
+     *
+     * @param <T>
+     * @param inputStream   文件流
+     * @param isOffice2003   是否为Office2003 (对于传递的流数据，获取文件类型稍微麻烦，故暂时以传递的方式)
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param data          待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param localFileFullName 保存本地文件全路径
+     * @param config        写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final InputStream inputStream,
+            final boolean isOffice2003,
+            final int sheetIndex,
+            final int startRowIndex,
+            final List<T> data,
+            final Map<String, String> headerMap,
+            final String localFileFullName,
+            final ExcelWriteConfig config) {
+
+        saveToFile(localFileFullName, outputStream ->
+                writeExcel(inputStream, isOffice2003, sheetIndex, startRowIndex, data, headerMap, outputStream, config));
+    }
+
+    /**
+     * 将Excel直接写入 localFileFullName 同目录下的临时文件，写完后再原子重命名为 localFileFullName，
+     * 不在内存中暂存整个文件，写入失败时也不会留下不完整的目标文件
+     *
+     * @param localFileFullName 保存本地文件全路径
+     * @param excelWriter       向输出流写入Excel
+     */
+    private static void saveToFile(final String localFileFullName, final Consumer<OutputStream> excelWriter) {
+        File tempFile = null;
         try {
             if (!FileUtil.isExistsDic(localFileFullName)) {
                 throw new FileNotFoundException("File '" + localFileFullName + "' directory does not exist");
             }
 
-            byteArrayOutputStream = (ByteArrayOutputStream) writeExcel(inputStream, isOffice2003, sheetIndex, startRowIndex, data, headerMap, null);
-
-            fileOutputStream = new FileOutputStream(localFileFullName);
-            byteArrayOutputStream.writeTo(fileOutputStream);
-            fileOutputStream.flush();
+            File targetFile = FileUtil.getFile(localFileFullName);
+            tempFile = FileUtil.createTempFileBeside(targetFile);
+            try (OutputStream outputStream = FileUtil.openChannelOutputStream(tempFile)) {
+                excelWriter.accept(outputStream);
+            }
+            FileUtil.moveAtomically(tempFile, targetFile);
         } catch (FileNotFoundException e) {
             e.printStackTrace();
         } catch (IOException e) {
             e.printStackTrace();
         } finally {
-            // 关闭输入流
-            if(byteArrayOutputStream != null) IOUtils.closeQuietly(byteArrayOutputStream);
-            if(fileOutputStream != null) IOUtils.closeQuietly(fileOutputStream);
+            if (tempFile != null && tempFile.exists() && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
         }
     }
 
@@ -301,6 +319,29 @@ public class ExcelSugar {
             final List<T> data,
             final Map<String, String> headerMap,
             OutputStream outputStream) {
+        saveAsExcel(fileFullName, sheetIndex, startRowIndex, data, headerMap, outputStream, null);
+    }
+
+    /**
+     * 将数据写入Excel，并保存到输出流
+     *
+     * @param <T>
+     * @param fileFullName  文件全路径
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param data          待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param outputStream 保存的输出流
+     * @param config        写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final List<T> data,
+            final Map<String, String> headerMap,
+            OutputStream outputStream,
+            final ExcelWriteConfig config) {
 
         if (!isAllowedFile(fileFullName)) {
             throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
@@ -308,7 +349,7 @@ public class ExcelSugar {
 
         outputStream = outputStream == null ? new ByteArrayOutputStream() : outputStream;
 
-        writeExcel(fileFullName, sheetIndex, startRowIndex, data, headerMap, outputStream);
+        writeExcel(fileFullName, sheetIndex, startRowIndex, data, headerMap, outputStream, config);
     }
 
     /**
@@ -331,12 +372,470 @@ public class ExcelSugar {
             final List<T> data,
             final Map<String, String> headerMap,
             OutputStream outputStream) {
+        saveAsExcel(inputStream, isOffice2003, sheetIndex, startRowIndex, data, headerMap, outputStream, null);
+    }
+
+    /**
+     * 将数据写入Excel，并保存到输出流
+     *
+     * @param <T>
+     * @param inputStream   文件流
+     * @param isOffice2003   是否为Office2003 (对于传递的流数据，获取文件类型稍微麻烦，故暂时以传递的方式)
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param data          待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param outputStream 保存的输出流
+     * @param config        写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final InputStream inputStream,
+            final boolean isOffice2003,
+            final int sheetIndex,
+            final int startRowIndex,
+            final List<T> data,
+            final Map<String, String> headerMap,
+            OutputStream outputStream,
+            final ExcelWriteConfig config) {
 
         outputStream = outputStream == null ? new ByteArrayOutputStream() : outputStream;
 
-        writeExcel(inputStream, isOffice2003, sheetIndex, startRowIndex, data, headerMap, outputStream);
+        writeExcel(inputStream, isOffice2003, sheetIndex, startRowIndex, data, headerMap, outputStream, config);
     }
 
+    /**
+     * 将迭代器中的数据逐行写入Excel，并保存文件到 localFileFullName
+     *
+     * @param <T>
+     * @param fileFullName      文件全路径
+     * @param sheetIndex        写数据的sheet页
+     * @param startRowIndex     写数据的起始行,从1开始
+     * @param beanClass         待写入数据的Bean类
+     * @param datas             待写入数据
+     * @param headerMap         T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param localFileFullName 保存本地文件全路径
+     * @param config            写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Iterator<? extends T> datas,
+            final Map<String, String> headerMap,
+            final String localFileFullName,
+            final ExcelWriteConfig config) {
+
+        if (!isAllowedFile(fileFullName)) {
+            throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
+        }
+
+        saveToFile(localFileFullName, outputStream ->
+                saveAsExcel(fileFullName, sheetIndex, startRowIndex, beanClass, datas, headerMap, outputStream, config));
+    }
+
+    /**
+     * 将迭代器中的数据逐行写入Excel，并保存到输出流
+     *
+     * @param <T>
+     * @param fileFullName  文件全路径
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param beanClass     待写入数据的Bean类
+     * @param datas         待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param outputStream  保存的输出流
+     * @param config        写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Iterator<? extends T> datas,
+            final Map<String, String> headerMap,
+            final OutputStream outputStream,
+            final ExcelWriteConfig config) {
+
+        try (ExcelWriter writer = new ExcelWriter(fileFullName, config)) {
+            writer.write(sheetIndex, startRowIndex, beanClass, datas, headerMap);
+            // 保存Excel
+            writer.save(outputStream);
+        }
+    }
+
+    /**
+     * 将Stream中的数据逐行写入Excel，并保存文件到 localFileFullName（不会关闭Stream）
+     *
+     * @param <T>
+     * @param fileFullName      文件全路径
+     * @param sheetIndex        写数据的sheet页
+     * @param startRowIndex     写数据的起始行,从1开始
+     * @param beanClass         待写入数据的Bean类
+     * @param datas             待写入数据
+     * @param headerMap         T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param localFileFullName 保存本地文件全路径
+     * @param config            写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Stream<? extends T> datas,
+            final Map<String, String> headerMap,
+            final String localFileFullName,
+            final ExcelWriteConfig config) {
+
+        if (!isAllowedFile(fileFullName)) {
+            throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
+        }
+
+        saveToFile(localFileFullName, outputStream ->
+                saveAsExcel(fileFullName, sheetIndex, startRowIndex, beanClass, datas, headerMap, outputStream, config));
+    }
+
+    /**
+     * 将Stream中的数据逐行写入Excel，并保存到输出流（不会关闭Stream）
+     *
+     * @param <T>
+     * @param fileFullName  文件全路径
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param beanClass     待写入数据的Bean类
+     * @param datas         待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param outputStream  保存的输出流
+     * @param config        写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Stream<? extends T> datas,
+            final Map<String, String> headerMap,
+            final OutputStream outputStream,
+            final ExcelWriteConfig config) {
+
+        try (ExcelWriter writer = new ExcelWriter(fileFullName, config)) {
+            writer.write(sheetIndex, startRowIndex, beanClass, datas, headerMap);
+            // 保存Excel
+            writer.save(outputStream);
+        }
+    }
+
+    /**
+     * 将分页数据源中的数据逐行写入Excel，并保存文件到 localFileFullName，每次只获取一页数据
+     *
+     * @param <T>
+     * @param fileFullName      文件全路径
+     * @param sheetIndex        写数据的sheet页
+     * @param startRowIndex     写数据的起始行,从1开始
+     * @param beanClass         待写入数据的Bean类
+     * @param pageSupplier      待写入数据
+     * @param headerMap         T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param localFileFullName 保存本地文件全路径
+     * @param config            写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final ExcelPageSupplier<? extends T> pageSupplier,
+            final Map<String, String> headerMap,
+            final String localFileFullName,
+            final ExcelWriteConfig config) {
+
+        if (!isAllowedFile(fileFullName)) {
+            throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
+        }
+
+        saveToFile(localFileFullName, outputStream ->
+                saveAsExcel(fileFullName, sheetIndex, startRowIndex, beanClass, pageSupplier, headerMap, outputStream, config));
+    }
+
+    /**
+     * 将分页数据源中的数据逐行写入Excel，并保存到输出流，每次只获取一页数据
+     *
+     * @param <T>
+     * @param fileFullName  文件全路径
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param beanClass     待写入数据的Bean类
+     * @param pageSupplier  待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param outputStream  保存的输出流
+     * @param config        写入配置 (为null时使用默认配置)
+     */
+    public static <T extends ExcelBeanValidator> void saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final ExcelPageSupplier<? extends T> pageSupplier,
+            final Map<String, String> headerMap,
+            final OutputStream outputStream,
+            final ExcelWriteConfig config) {
+
+        try (ExcelWriter writer = new ExcelWriter(fileFullName, config)) {
+            writer.write(sheetIndex, startRowIndex, beanClass, pageSupplier, headerMap);
+            // 保存Excel
+            writer.save(outputStream);
+        }
+    }
+
+    /**
+     * 将多个sheet页的数据写入Excel，并保存文件到 localFileFullName（数据转换在 config 的线程池上并行执行）
+     *
+     * @param fileFullName      文件全路径
+     * @param sheetDatas        各sheet页的数据
+     * @param localFileFullName 保存本地文件全路径
+     * @param config            写入配置 (为null时使用默认配置)
+     */
+    public static void saveAsExcel(
+            final String fileFullName,
+            final List<? extends ExcelSheetData<?>> sheetDatas,
+            final String localFileFullName,
+            final ExcelWriteConfig config) {
+
+        if (!isAllowedFile(fileFullName)) {
+            throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
+        }
+
+        saveToFile(localFileFullName, outputStream -> saveAsExcel(fileFullName, sheetDatas, outputStream, config));
+    }
+
+    /**
+     * 将多个sheet页的数据写入Excel，并保存到输出流（数据转换在 config 的线程池上并行执行）
+     *
+     * @param fileFullName 文件全路径
+     * @param sheetDatas   各sheet页的数据
+     * @param outputStream 保存的输出流
+     * @param config       写入配置 (为null时使用默认配置)
+     */
+    public static void saveAsExcel(
+            final String fileFullName,
+            final List<? extends ExcelSheetData<?>> sheetDatas,
+            final OutputStream outputStream,
+            final ExcelWriteConfig config) {
+
+        try (ExcelWriter writer = new ExcelWriter(fileFullName, config)) {
+            writer.write(sheetDatas);
+            // 保存Excel
+            writer.save(outputStream);
+        }
+    }
+
+    /**
+     * 将迭代器中的数据逐行写入Excel，超过拆分阈值时拆分为多个sheet页或多个文件（report-001.xlsx、report-002.xlsx ...）
+     *
+     * @param <T>
+     * @param fileFullName      文件全路径
+     * @param sheetIndex        写数据的sheet页
+     * @param startRowIndex     写数据的起始行,从1开始
+     * @param beanClass         待写入数据的Bean类
+     * @param datas             待写入数据
+     * @param headerMap         T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param localFileFullName 保存本地文件全路径，按文件拆分时为各文件名的基础
+     * @param config            写入配置 (为null时使用默认配置)
+     * @param rollover          拆分配置
+     * @return 保存的文件全路径
+     */
+    public static <T extends ExcelBeanValidator> List<String> saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Iterator<? extends T> datas,
+            final Map<String, String> headerMap,
+            final String localFileFullName,
+            final ExcelWriteConfig config,
+            final ExcelRolloverConfig rollover) {
+
+        if (!isAllowedFile(fileFullName)) {
+            throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
+        }
+
+        return ExcelRolloverWriter.write(fileFullName, sheetIndex, startRowIndex, beanClass, datas, headerMap,
+                localFileFullName, config, rollover);
+    }
+
+    /**
+     * 将Stream中的数据逐行写入Excel，超过拆分阈值时拆分为多个sheet页或多个文件（不会关闭Stream）
+     *
+     * @param <T>
+     * @param fileFullName      文件全路径
+     * @param sheetIndex        写数据的sheet页
+     * @param startRowIndex     写数据的起始行,从1开始
+     * @param beanClass         待写入数据的Bean类
+     * @param datas             待写入数据
+     * @param headerMap         T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param localFileFullName 保存本地文件全路径，按文件拆分时为各文件名的基础
+     * @param config            写入配置 (为null时使用默认配置)
+     * @param rollover          拆分配置
+     * @return 保存的文件全路径
+     */
+    public static <T extends ExcelBeanValidator> List<String> saveAsExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Stream<? extends T> datas,
+            final Map<String, String> headerMap,
+            final String localFileFullName,
+            final ExcelWriteConfig config,
+            final ExcelRolloverConfig rollover) {
+
+        if (datas == null) {
+            throw new IllegalArgumentException("datas cannot be null.");
+        }
+
+        return saveAsExcel(fileFullName, sheetIndex, startRowIndex, beanClass, datas.iterator(), headerMap,
+                localFileFullName, config, rollover);
+    }
+
+    /**
+     * 将迭代器中的数据逐行写入CSV/TSV文件，不需要模板，列头和列顺序来自注解或 headerMap
+     *
+     * @param <T>
+     * @param beanClass         待写入数据的Bean类
+     * @param datas             待写入数据
+     * @param headerMap         T的属性Name 和 列头标题 映射集合 (K:T的属性,V:列头标题)，为空时使用注解
+     * @param localFileFullName 保存本地文件全路径
+     * @param type              {@link ExcelTypeEnum#CSV} 或 {@link ExcelTypeEnum#TSV}
+     */
+    public static <T extends ExcelBeanValidator> void saveAsCsv(
+            final Class<T> beanClass,
+            final Iterator<? extends T> datas,
+            final Map<String, String> headerMap,
+            final String localFileFullName,
+            final ExcelTypeEnum type) {
+
+        saveToFile(localFileFullName, outputStream -> writeCsv(beanClass, datas, headerMap, outputStream, type));
+    }
+
+    /**
+     * 将迭代器中的数据逐行以UTF-8写入CSV/TSV，并保存到输出流（不会关闭输出流）
+     *
+     * @param <T>
+     * @param beanClass    待写入数据的Bean类
+     * @param datas        待写入数据
+     * @param headerMap    T的属性Name 和 列头标题 映射集合 (K:T的属性,V:列头标题)，为空时使用注解
+     * @param outputStream 输出流
+     * @param type         {@link ExcelTypeEnum#CSV} 或 {@link ExcelTypeEnum#TSV}
+     */
+    public static <T extends ExcelBeanValidator> void writeCsv(
+            final Class<T> beanClass,
+            final Iterator<? extends T> datas,
+            final Map<String, String> headerMap,
+            final OutputStream outputStream,
+            final ExcelTypeEnum type) {
+
+        try (ExcelCsvWriter writer = new ExcelCsvWriter(outputStream, type, StandardCharsets.UTF_8)) {
+            writer.write(beanClass, datas, headerMap);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 流式读取Excel，每行转换为Bean后交给 rowHandler
+     * <p>按文件头识别 xls/xlsx，扩展名与实际格式不一致的文件也能使用正确的读取器。</p>
+     *
+     * @param <T>
+     * @param fileFullName  文件全路径
+     * @param sheetIndex    读数据的sheet页
+     * @param startRowIndex 数据的起始行,从1开始（其上一行为表头）
+     * @param beanClass     存放数据的Bean类
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param rowHandler    行回调
+     */
+    public static <T extends ExcelBeanValidator> void readExcel(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Map<String, String> headerMap,
+            final ExcelRowHandler<? super T> rowHandler) {
+
+        ExcelTypeEnum type = FileUtil.isExists(fileFullName) ? ExcelTypeEnum.detect(FileUtil.getFile(fileFullName)) : null;
+        if (type == null && !isAllowedFile(fileFullName)) {
+            throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
+        }
+
+        boolean isOffice2003 = type != null ? type == ExcelTypeEnum.XLS : FileUtil.isExtensionIgnoreCase(fileFullName, EXCEL_XLS);
+        ExcelReader excelReader = createReader(isOffice2003);
+        excelReader.read(FileUtil.getFile(fileFullName), sheetIndex, startRowIndex, beanClass, headerMap, rowHandler);
+    }
+
+    /**
+     * 流式读取Excel，按文件头识别 xls/xlsx 后交给对应的读取器，读取完成后关闭输入流
+     * <p>识别时只读取流的前8个字节，不会把整个流读入内存。</p>
+     *
+     * @param <T>
+     * @param inputStream   文件流
+     * @param sheetIndex    读数据的sheet页
+     * @param startRowIndex 数据的起始行,从1开始（其上一行为表头）
+     * @param beanClass     存放数据的Bean类
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param rowHandler    行回调
+     */
+    public static <T extends ExcelBeanValidator> void readExcel(
+            final InputStream inputStream,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Map<String, String> headerMap,
+            final ExcelRowHandler<? super T> rowHandler) {
+
+        if (inputStream == null) {
+            throw new IllegalArgumentException("inputStream cannot be null.");
+        }
+        InputStream markableStream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        ExcelTypeEnum type = ExcelTypeEnum.detect(markableStream);
+        if (type == null) {
+            IOUtils.closeQuietly(markableStream);
+            throw new IllegalArgumentException(String.format("File format has to be %s/%s", EXCEL_XLS, EXCEL_XLSX));
+        }
+
+        createReader(type == ExcelTypeEnum.XLS).read(markableStream, sheetIndex, startRowIndex, beanClass, headerMap, rowHandler);
+    }
+
+    /**
+     * 流式读取Excel，每行转换为Bean后交给 rowHandler，读取完成后关闭输入流
+     *
+     * @param <T>
+     * @param inputStream   文件流
+     * @param isOffice2003   是否为Office2003
+     * @param sheetIndex    读数据的sheet页
+     * @param startRowIndex 数据的起始行,从1开始（其上一行为表头）
+     * @param beanClass     存放数据的Bean类
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param rowHandler    行回调
+     */
+    public static <T extends ExcelBeanValidator> void readExcel(
+            final InputStream inputStream,
+            final boolean isOffice2003,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Map<String, String> headerMap,
+            final ExcelRowHandler<? super T> rowHandler) {
+
+        createReader(isOffice2003).read(inputStream, sheetIndex, startRowIndex, beanClass, headerMap, rowHandler);
+    }
+
+    /**
+     * 按文件格式创建流式读取器
+     *
+     * @param isOffice2003 是否为Office2003
+     * @return 读取器
+     */
+    private static ExcelReader createReader(final boolean isOffice2003) {
+        return isOffice2003 ? new ExcelXlsReader() : new ExcelXlsxReader();
+    }
 
     /**
      * 获取指定位置的单元格
@@ -487,8 +986,8 @@ public class ExcelSugar {
      * @param cells
      * @return
      */
-    public static Map<String, ExcelColumnBean> getCellValueNumStyleMap(final Sheet sheet, final List<Cell> cells) {
-        Map<String, ExcelColumnBean> map = new LinkedHashMap<String, ExcelColumnBean>();
+    public static Map<String, ExcelCellProperty> getCellValueNumStyleMap(final Sheet sheet, final List<Cell> cells) {
+        Map<String, ExcelCellProperty> map = new LinkedHashMap<String, ExcelCellProperty>();
 
         if (cells == null || cells.size() < 1) {
             return map;
@@ -499,11 +998,11 @@ public class ExcelSugar {
             int rowIndex = cell.getRowIndex() + 1;
             String cellValue = cell.getStringCellValue();
             Cell nextCell = getCell(sheet, rowIndex, columnIndex);
-            ExcelColumnBean excelColumnBean = new ExcelColumnBean();
-            excelColumnBean.setIndex(columnIndex);
-            excelColumnBean.setCellStyle(nextCell.getCellStyle());
+            ExcelCellProperty excelCellProperty = new ExcelCellProperty();
+            excelCellProperty.setIndex(columnIndex);
+            excelCellProperty.setCellStyle(nextCell.getCellStyle());
             if (!map.containsKey(cellValue)) {
-                map.put(cellValue, excelColumnBean);
+                map.put(cellValue, excelCellProperty);
             }
         }
 
@@ -541,28 +1040,43 @@ public class ExcelSugar {
         return cellValue;
     }
 
+    /**
+     * 设置单元格的值
+     * <p>时间值的派生样式从工作簿已有的样式中查找，多次调用不会增加样式数量；写入大量单元格时持有一个
+     * {@link ExcelCellStylePool} 并调用 {@link #setCellValue(Cell, Object, ExcelCellProperty, ExcelCellStylePool)} 可省去查找。</p>
+     *
+     * @param cell 单元格
+     * @param value 单元格的值
+     * @param excelCellProperty 值注解
+     */
+    public static void setCellValue(final Cell cell, Object value, ExcelCellProperty excelCellProperty) {
+        setCellValue(cell, value, excelCellProperty, new ExcelCellStylePool(cell.getSheet().getWorkbook()));
+    }
+
     /**
      * 设置单元格的值
      *
      * @param cell 单元格
      * @param value 单元格的值
-     * @param excelColumnBean 值注解
+     * @param excelCellProperty 值注解
+     * @param cellStylePool 单元格所在工作簿的样式池
      */
-    public static void setCellValue(final Cell cell, Object value, ExcelColumnBean excelColumnBean) {
+    public static void setCellValue(final Cell cell, Object value, ExcelCellProperty excelCellProperty,
+                                    final ExcelCellStylePool cellStylePool) {
         // 如果值为null 或者 需要加前后缀，都以String处理
         if(value == null) {
             value = "";
         }
-        if(excelColumnBean != null && (!StringUtils.isBlank(excelColumnBean.getPrefix())
-                || !StringUtils.isBlank(excelColumnBean.getSuffix()))) {
-            String prefix = !StringUtils.isBlank(excelColumnBean.getPrefix()) ? excelColumnBean.getPrefix() : "";
-            String suffix = !StringUtils.isBlank(excelColumnBean.getSuffix()) ? excelColumnBean.getSuffix() : "";
+        if(excelCellProperty != null && (!StringUtils.isBlank(excelCellProperty.getPrefix())
+                || !StringUtils.isBlank(excelCellProperty.getSuffix()))) {
+            String prefix = !StringUtils.isBlank(excelCellProperty.getPrefix()) ? excelCellProperty.getPrefix() : "";
+            String suffix = !StringUtils.isBlank(excelCellProperty.getSuffix()) ? excelCellProperty.getSuffix() : "";
             value = prefix + value + suffix;
         }
 
         // 设置单元格样式
-        CellStyle cellStyle = excelColumnBean != null && excelColumnBean.getCellStyle() != null
-                ? excelColumnBean.getCellStyle()
+        CellStyle cellStyle = excelCellProperty != null && excelCellProperty.getCellStyle() != null
+                ? excelCellProperty.getCellStyle()
                 : cell.getCellStyle();
 
         // 设置单元格值
@@ -582,11 +1096,11 @@ public class ExcelSugar {
             cell.setCellValue(((Boolean) value));
         } else if (value instanceof Date) {
             // 设置时间格式
-            String format = !StringUtils.isBlank(excelColumnBean.getDateFormat())
-                    ? excelColumnBean.getDateFormat()
+            String format = excelCellProperty != null && !StringUtils.isBlank(excelCellProperty.getDateFormat())
+                    ? excelCellProperty.getDateFormat()
                     : "MM/dd/yyyy HH:mm:ss";
-            DataFormat dataFormat = workbook.createDataFormat();
-            cellStyle.setDataFormat(dataFormat.getFormat(format));
+            // 模板样式是共享的，从样式池获取带时间格式的派生样式
+            cellStyle = cellStylePool.getStyle(cellStyle, format);
             cell.setCellValue((Date) value);
         } else {
             cell.setCellValue(ConvertUtils.convert(value));
@@ -620,9 +1134,10 @@ public class ExcelSugar {
     /**
      * 保存Excel
      *
+     * @param workbook 需要保存的工作簿
      * @param stream 需要保存的目标流
      */
-    public static void save(OutputStream stream) {
+    public static void save(final Workbook workbook, OutputStream stream) {
         stream = stream != null ? stream : new ByteArrayOutputStream();
         if(workbook != null) {
             try {
@@ -637,10 +1152,15 @@ public class ExcelSugar {
     /**
      * 关闭Excel
      *
+     * @param workbook 需要关闭的工作簿
      */
-    public static void close() {
+    public static void close(final Workbook workbook) {
         if (workbook != null) {
             try {
+                // 删除流式写入产生的临时文件
+                if (workbook instanceof SXSSFWorkbook) {
+                    ((SXSSFWorkbook) workbook).dispose();
+                }
                 workbook.close();
             } catch (IOException e) {
                 e.printStackTrace();
@@ -666,35 +1186,12 @@ public class ExcelSugar {
      * @param t 存放数据的Bean
      * @return
      */
-    public static <T extends ExcelBeanValidator> Map<String, ExcelColumnBean> getBeanFieldNameAnnotationMap(final T t) {
-        Map<String, ExcelColumnBean> map = new LinkedHashMap<String, ExcelColumnBean>();
-
-        Class<? extends ExcelBeanValidator> beanClass = t.getClass();
-
+    public static <T extends ExcelBeanValidator> Map<String, ExcelCellProperty> getBeanFieldNameAnnotationMap(final T t) {
+        Map<String, ExcelCellProperty> map = new LinkedHashMap<String, ExcelCellProperty>();
 
-        // 得到对象所有字段
-        Field fields[] = beanClass.getDeclaredFields();
-
-        // 遍历所有字段，对应配置好的字段并赋值
-        for (Field field : fields) {
-            // 获取字段名称
-            String fieldName = field.getName();
-            // 获取注解
-            ExcelColumnBean excelColumnBean = new ExcelColumnBean();
-            if (field.isAnnotationPresent(ExcelColumn.class)) {
-                ExcelColumn excelColumn = field.getAnnotation(ExcelColumn.class);
-                if (excelColumn != null) {
-                    excelColumnBean.setName(excelColumn.name());
-                    excelColumnBean.setIndex(excelColumn.index());
-                    excelColumnBean.setPrefix(excelColumn.prefix());
-                    excelColumnBean.setSuffix(excelColumn.suffix());
-                    excelColumnBean.setDateFormat(excelColumn.dateFormat());
-                    excelColumnBean.setCellStyleJson(excelColumn.cellStyleJson());
-                }
-            }
-            if (!map.containsKey(fieldName)) {
-                map.put(fieldName, excelColumnBean);
-            }
+        // 遍历Bean类的属性元数据（已缓存）
+        for (ExcelFieldMetadata field : ExcelBeanMetadata.of(t.getClass()).getFields()) {
+            map.put(field.getName(), field.getCellProperty());
         }
 
         return map;
@@ -706,13 +1203,13 @@ public class ExcelSugar {
      * @param t 存放数据的Bean
      * @return
      */
-    public static <T extends ExcelBeanValidator> Map<String, ExcelCellBean> getBeanFieldAnnotationMap(final T t) {
-        Map<String, ExcelCellBean> map = new LinkedHashMap<String, ExcelCellBean>();
+    public static <T extends ExcelBeanValidator> Map<String, ExcelBeanMapper> getBeanFieldAnnotationMap(final T t) {
+        Map<String, ExcelBeanMapper> map = new LinkedHashMap<String, ExcelBeanMapper>();
 
         Class<? extends ExcelBeanValidator> beanClass = t.getClass();
 
         try {
-            ExcelCellBean excelCellBean = new ExcelCellBean();
+            ExcelBeanMapper excelBeanMapper = new ExcelBeanMapper();
 
             // 得到对象所有字段
             Field fields[] = beanClass.getDeclaredFields();
@@ -721,32 +1218,32 @@ public class ExcelSugar {
             for (Field field : fields) {
                 // 获取字段名称
                 String fieldName = field.getName();
-                excelCellBean.setName(fieldName);
+                excelBeanMapper.setName(fieldName);
                 // 获取字段类型
                 Class<?> fieldType = field.getType();
-                excelCellBean.setType(fieldType);
+                excelBeanMapper.setType(fieldType);
                 // 抑制Java对修饰符的检查
                 field.setAccessible(true);
                 // 获取字段值
                 Object fieldValue;
                 fieldValue = field.get(field);
-                excelCellBean.setValue(fieldValue);
+                excelBeanMapper.setValue(fieldValue);
                 // 获取注解
-                ExcelColumnBean excelColumnBean = new ExcelColumnBean();
-                if (field.isAnnotationPresent(ExcelColumn.class)) {
-                    ExcelColumn excelColumn = field.getAnnotation(ExcelColumn.class);
-                    if (excelColumn != null) {
-                        excelColumnBean.setName(excelColumn.name());
-                        excelColumnBean.setIndex(excelColumn.index());
-                        excelColumnBean.setPrefix(excelColumn.prefix());
-                        excelColumnBean.setSuffix(excelColumn.suffix());
-                        excelColumnBean.setDateFormat(excelColumn.dateFormat());
-                        excelColumnBean.setCellStyleJson(excelColumn.cellStyleJson());
+                ExcelCellProperty excelCellProperty = new ExcelCellProperty();
+                if (field.isAnnotationPresent(ExcelProperty.class)) {
+                    ExcelProperty excelProperty = field.getAnnotation(ExcelProperty.class);
+                    if (excelProperty != null) {
+                        excelCellProperty.setName(excelProperty.name());
+                        excelCellProperty.setIndex(excelProperty.index());
+                        excelCellProperty.setPrefix(excelProperty.prefix());
+                        excelCellProperty.setSuffix(excelProperty.suffix());
+                        excelCellProperty.setDateFormat(excelProperty.dateFormat());
+                        excelCellProperty.setCellStyleJson(excelProperty.cellStyleJson());
                     }
                 }
-                excelCellBean.setExcelColumnBean(excelColumnBean);
+                excelBeanMapper.setExcelCellProperty(excelCellProperty);
                 if (!map.containsKey(fieldName)) {
-                    map.put(fieldName, excelCellBean);
+                    map.put(fieldName, excelBeanMapper);
                 }
             }
         } catch (IllegalArgumentException e) {
@@ -767,130 +1264,68 @@ public class ExcelSugar {
      * @param headerMap T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
      * @return Bean中的属性Name 和 Excel列索引 的映射
      */
-    public static <T extends ExcelBeanValidator> Map<String, ExcelColumnBean> getBeanNameColumnIndexMap(
+    public static <T extends ExcelBeanValidator> Map<String, ExcelCellProperty> getBeanNameColumnIndexMap(
             final Sheet sheet, final int rowIndex, final T t, final Map<String, String> headerMap) {
+        return getBeanNameColumnIndexMap(sheet, rowIndex, t.getClass(), headerMap);
+    }
 
-        Map<String, ExcelColumnBean> map = new LinkedHashMap<String, ExcelColumnBean>();
-
-        // 获取表头
-        List<Cell> cells = getCellByRownum(sheet, rowIndex);
-
-        // 获取表头 值、位置、样式 的映射
-        Map<String, ExcelColumnBean> sheetHeaderValueNumTypeMap = getCellValueNumStyleMap(sheet, cells);
-
-        // 如果调用者已经指定了：bean属性 和 列头标题 的映射
-        if (headerMap != null && headerMap.size() > 0) {
-            for (Entry<String, ExcelColumnBean> sheetHeaderEntry : sheetHeaderValueNumTypeMap.entrySet()) {
-                if (sheetHeaderEntry == null)
-                    continue;
-
-                String sheetHeaderKey = !StringUtils.isBlank(sheetHeaderEntry.getKey())
-                        ? sheetHeaderEntry.getKey().trim()
-                        : null;
-                Integer sheetHeaderValue = sheetHeaderEntry.getValue().getIndex();
-                CellStyle sheetHeaderStyle = sheetHeaderEntry.getValue().getCellStyle();
-
-                for (Entry<String, String> headerEntry : headerMap.entrySet()) {
-                    if (headerEntry == null)
-                        continue;
+    /**
+     * 获取导入数据的Bean中的属性Name 和 Excel列属性 的映射
+     * <p>映射按 Bean类 + 模板表头 缓存，相同模板的重复导出不会重新匹配表头</p>
+     *
+     * @param sheet     sheet
+     * @param rowIndex  表头行
+     * @param beanClass 存放数据的Bean类
+     * @param headerMap T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @return Bean中的属性Name 和 Excel列索引 的映射
+     */
+    public static Map<String, ExcelCellProperty> getBeanNameColumnIndexMap(
+            final Sheet sheet, final int rowIndex, final Class<?> beanClass, final Map<String, String> headerMap) {
 
-                    String headerKey = !StringUtils.isBlank(headerEntry.getKey()) ? headerEntry.getKey().trim() : null;
-                    String headerValue = !StringUtils.isBlank(headerEntry.getValue()) ? headerEntry.getValue().trim() : null;
+        Map<String, ExcelCellProperty> map = new LinkedHashMap<String, ExcelCellProperty>();
 
-                    // 映射
-                    if (sheetHeaderKey != null && headerValue != null && sheetHeaderKey.equalsIgnoreCase(headerValue) && !map.containsKey(headerKey)) {
-                        ExcelColumnBean excelColumnBean = new ExcelColumnBean();
-                        excelColumnBean.setIndex(sheetHeaderValue);
-                        excelColumnBean.setCellStyle(sheetHeaderStyle);
-                        map.put(headerKey, excelColumnBean);
-                    }
-                }
-            }
-        } else { // 通过注解方式设置的属性
-            // 获取bean属性 和 bean注解 的映射
-            Map<String, ExcelColumnBean> beanAnnotationMap = getBeanFieldNameAnnotationMap(t);
-
-            // 用户设置的索引优先
-            if (beanAnnotationMap.values().stream().anyMatch(bean -> bean.getIndex() > -1)) {
-                map = beanAnnotationMap;
-                // 获取表头样式
-                beanAnnotationMap.values().stream().forEach(bean -> {
-                    Cell nextCell = getCell(sheet, rowIndex + 1, bean.getIndex());
-                    bean.setCellStyle(nextCell.getCellStyle());
-                });
-            } else {
-                for (Entry<String, ExcelColumnBean> sheetHeaderEntry : sheetHeaderValueNumTypeMap.entrySet()) {
-                    if (sheetHeaderEntry == null)
-                        continue;
-
-                    String sheetHeaderKey = !StringUtils.isBlank(sheetHeaderEntry.getKey())
-                            ? sheetHeaderEntry.getKey().trim()
-                            : null;
-                    Integer sheetHeaderValue = sheetHeaderEntry.getValue().getIndex();
-                    CellStyle sheetHeaderStyle = sheetHeaderEntry.getValue().getCellStyle();
-
-                    for (Entry<String, ExcelColumnBean> beanEntry : beanAnnotationMap.entrySet()) {
-                        if (beanEntry == null)
-                            continue;
-
-                        String beanKey = !StringUtils.isBlank(beanEntry.getKey()) ? beanEntry.getKey().trim() : null;
-                        ExcelColumnBean beanValue = beanEntry.getValue();
-
-                        String beanHeaderKey = !StringUtils.isBlank(beanValue.getName()) ? beanValue.getName().trim() : null;
-
-                        // 映射
-                        if (sheetHeaderKey != null && beanHeaderKey != null && sheetHeaderKey.equalsIgnoreCase(beanHeaderKey)
-                                && !map.containsKey(beanKey)) {
-                            ExcelColumnBean excelColumnBean = beanValue != null ? beanValue : new ExcelColumnBean();
-                            // 设置索引
-                            excelColumnBean.setIndex(sheetHeaderValue);
-                            // 如果注解中设置了样式
-                            if(!StringUtils.isBlank(beanValue.getCellStyleJson())) {
-                                sheetHeaderStyle = convertCellStyleFromJson(beanValue.getCellStyleJson());
-                            }
-                            excelColumnBean.setCellStyle(sheetHeaderStyle);
-                            map.put(beanKey, excelColumnBean);
-                            continue;
-                        }
-                    }
-                }
-            }
+        ExcelColumnMapping mapping = ExcelColumnMapping.resolve(sheet, rowIndex, beanClass, headerMap);
+        ExcelCellProperty[] cellProperties = getCellProperties(mapping, sheet.getWorkbook());
+        for (int i = 0; i < mapping.size(); i++) {
+            map.put(mapping.getField(i).getName(), cellProperties[i]);
         }
 
         return map;
     }
 
     /**
-     * 从 CellStyle 字符串转换为 CellStyle
+     * 获取映射列的Excel列属性（含样式）
      *
-     * @param json
-     * @return
+     * @param mapping  Bean类的属性 和 模板列 的映射
+     * @param workbook 模板工作簿
+     * @return 与映射列顺序一致的Excel列属性
      */
-    private static CellStyle convertCellStyleFromJson(String json) {
-        CellStyle cellStyle = null;
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        // 如果为空则不输出
-        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-        // 对于空的对象转json的时候不抛出错误
-        objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-        // 禁用序列化日期为timestamps
-        // objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        // 禁用遇到未知属性抛出异常
-        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        // 视空字符传为null
-        objectMapper.enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
+    public static ExcelCellProperty[] getCellProperties(final ExcelColumnMapping mapping, final Workbook workbook) {
+        return getCellProperties(mapping, workbook, null);
+    }
 
-        try {
-            cellStyle = objectMapper.readValue(json, CellStyle.class);
-        } catch (JsonParseException e) {
-            e.printStackTrace();
-        } catch (JsonMappingException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * 获取映射列的Excel列属性（含样式），注解中设置的样式从指定的样式池获取
+     *
+     * @param mapping       Bean类的属性 和 模板列 的映射
+     * @param workbook      模板工作簿
+     * @param cellStylePool 写入工作簿的样式池，为null时按需创建（派生样式从工作簿已有的样式中查找，重复调用不会增加样式）
+     * @return 与映射列顺序一致的Excel列属性
+     */
+    public static ExcelCellProperty[] getCellProperties(final ExcelColumnMapping mapping, final Workbook workbook,
+                                                        final ExcelCellStylePool cellStylePool) {
+        ExcelCellProperty[] cellProperties = mapping.createCellProperties(workbook);
+
+        // 如果注解中设置了样式，在模板样式的基础上从样式池获取派生样式
+        ExcelCellStylePool pool = cellStylePool;
+        for (ExcelCellProperty excelCellProperty : cellProperties) {
+            ExcelCellStyleDefinition definition = ExcelCellStyleDefinition.parse(excelCellProperty.getCellStyleJson());
+            if (definition != null) {
+                pool = pool != null ? pool : new ExcelCellStylePool(workbook);
+                excelCellProperty.setCellStyle(pool.getStyle(excelCellProperty.getCellStyle(), definition));
+            }
         }
 
-        return cellStyle;
+        return cellProperties;
     }
 }
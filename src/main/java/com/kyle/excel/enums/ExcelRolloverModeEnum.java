@@ -0,0 +1,20 @@
+package com.kyle.excel.enums;
+
+/**
+ * 数据超过拆分阈值时的拆分方式
+ *
+ * @package: com.kyle.excel.enums
+ * @className: ExcelRolloverModeEnum
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 23:10
+ */
+public enum ExcelRolloverModeEnum {
+    /**
+     * 在同一个文件中新建sheet页继续写入
+     */
+    SHEET,
+    /**
+     * 新建文件继续写入，文件名为 "原文件名-001.xlsx"、"原文件名-002.xlsx" ...
+     */
+    FILE
+}
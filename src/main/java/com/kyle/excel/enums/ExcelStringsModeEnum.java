@@ -0,0 +1,22 @@
+package com.kyle.excel.enums;
+
+/**
+ * xlsx 流式写入时字符串单元格的保存方式
+ *
+ * @package: com.kyle.excel.enums
+ * @className: ExcelStringsModeEnum
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 01:10
+ */
+public enum ExcelStringsModeEnum {
+    /**
+     * 字符串直接写入单元格（inlineStr），不经过共享字符串表：写入时不做去重，内存占用与字符串数量无关，
+     * 重复字符串较多时文件较大
+     */
+    INLINE,
+    /**
+     * 字符串写入共享字符串表，单元格只保存索引：重复字符串较多时文件较小，但共享字符串表及其去重索引保存在内存中，
+     * 随不同字符串的数量增长
+     */
+    SHARED
+}
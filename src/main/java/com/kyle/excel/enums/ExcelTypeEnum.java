@@ -3,6 +3,11 @@ package com.kyle.excel.enums;
 import com.kyle.excel.exception.ExcelAnalysisException;
 import com.kyle.excel.util.FileUtil;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 /**
  *
@@ -20,7 +25,33 @@ public enum ExcelTypeEnum {
     /**
      * xlsx
      */
-    XLSX(".xlsx");
+    XLSX(".xlsx"),
+    /**
+     * csv（逗号分隔，只用于导出）
+     */
+    CSV(".csv"),
+    /**
+     * tsv（制表符分隔，只用于导出）
+     */
+    TSV(".tsv");
+
+    /**
+     * 文件头的字节数，足以区分 OLE2 与 ZIP
+     */
+    private static final int HEADER_SIZE = 8;
+    /**
+     * OLE2 复合文档（xls）的文件头
+     */
+    private static final byte[] OLE2_SIGNATURE = {
+            (byte) 0xD0, (byte) 0xCF, (byte) 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, (byte) 0x1A, (byte) 0xE1};
+    /**
+     * ZIP（OOXML，xlsx）的本地文件头
+     */
+    private static final byte[] ZIP_SIGNATURE = {0x50, 0x4B, 0x03, 0x04};
+    /**
+     * 每个线程复用的文件头缓冲区
+     */
+    private static final ThreadLocal<byte[]> HEADER_BUFFER = ThreadLocal.withInitial(() -> new byte[HEADER_SIZE]);
 
     ExcelTypeEnum(String value) {
         this.setValue(value);
@@ -36,21 +67,114 @@ public enum ExcelTypeEnum {
         this.value = value;
     }
 
+    /**
+     * 获取文件类型：先按文件头识别 xls/xlsx，无法识别时按扩展名判断
+     *
+     * @param file 文件
+     * @param i    未使用
+     * @return 文件类型，无法判断时返回null
+     */
     public static ExcelTypeEnum valueOf(final File file, int i) {
-        if(FileUtil.isExists(file)) {
+        if(!FileUtil.isExists(file)) {
             throw new ExcelAnalysisException("File does not exist");
         }
 
-        String fileName = file.getName();
+        ExcelTypeEnum detected = detect(file);
+        if (detected != null) {
+            return detected;
+        }
+
+        String fileName = file.getName().toLowerCase();
         if (fileName.endsWith(XLSX.getValue())) {
             return XLSX;
         } else if (fileName.endsWith(XLS.getValue())) {
             return XLS;
+        } else if (fileName.endsWith(CSV.getValue())) {
+            return CSV;
+        } else if (fileName.endsWith(TSV.getValue())) {
+            return TSV;
         }
 
         return null;
     }
 
+    /**
+     * 按文件头识别 xls/xlsx，只读取文件的前8个字节
+     *
+     * @param file 文件
+     * @return {@link #XLS}、{@link #XLSX}，无法识别时返回null
+     */
+    public static ExcelTypeEnum detect(final File file) {
+        if(!FileUtil.isExists(file)) {
+            throw new ExcelAnalysisException("File does not exist");
+        }
+
+        byte[] header = HEADER_BUFFER.get();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.wrap(header);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // 读满文件头或到文件末尾为止
+            }
+            return detect(header, buffer.position());
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not read file header", e);
+        }
+    }
+
+    /**
+     * 按文件头识别 xls/xlsx，读取前8个字节后将流重置到原位置，流中的数据不会被消费
+     *
+     * @param inputStream 支持 mark/reset 的输入流，如 BufferedInputStream
+     * @return {@link #XLS}、{@link #XLSX}，无法识别时返回null
+     */
+    public static ExcelTypeEnum detect(final InputStream inputStream) {
+        if (inputStream == null || !inputStream.markSupported()) {
+            throw new IllegalArgumentException("inputStream has to support mark/reset");
+        }
+
+        byte[] header = HEADER_BUFFER.get();
+        try {
+            inputStream.mark(HEADER_SIZE);
+            int length = 0;
+            int bytesRead;
+            while (length < HEADER_SIZE && (bytesRead = inputStream.read(header, length, HEADER_SIZE - length)) != -1) {
+                length += bytesRead;
+            }
+            inputStream.reset();
+            return detect(header, length);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not read file header", e);
+        }
+    }
+
+    /**
+     * 按文件头识别 xls/xlsx
+     *
+     * @param header 文件开头的字节
+     * @param length 有效字节数
+     * @return {@link #XLS}、{@link #XLSX}，无法识别时返回null
+     */
+    public static ExcelTypeEnum detect(final byte[] header, final int length) {
+        if (startsWith(header, length, OLE2_SIGNATURE)) {
+            return XLS;
+        } else if (startsWith(header, length, ZIP_SIGNATURE)) {
+            return XLSX;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(final byte[] header, final int length, final byte[] signature) {
+        if (header == null || length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (header[i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static ExcelTypeEnum getStatusEnumInstance(String nameOrValue) {
         ExcelTypeEnum[] statusConstants = ExcelTypeEnum.values();
 
@@ -0,0 +1,166 @@
+package com.kyle.excel.metadata;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.kyle.excel.annotation.ExcelIgnore;
+import com.kyle.excel.annotation.ExcelIgnoreUnannotated;
+import com.kyle.excel.annotation.ExcelProperty;
+
+/**
+ * Excel数据Bean类的元数据
+ * <p>每个Bean类只扫描一次属性和 {@link ExcelProperty} 注解，结果通过 {@link ClassValue} 缓存，
+ * 不会阻止Bean类所在的ClassLoader被回收。</p>
+ *
+ * @package: com.kyle.excel.metadata
+ * @className: ExcelBeanMetadata
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 13:24
+ */
+public final class ExcelBeanMetadata {
+    private static final ClassValue<ExcelBeanMetadata> CACHE = new ClassValue<ExcelBeanMetadata>() {
+        @Override
+        protected ExcelBeanMetadata computeValue(Class<?> type) {
+            return new ExcelBeanMetadata(type);
+        }
+    };
+
+    private final Class<?> beanClass;
+    /**
+     * 属性Name 和 属性元数据 的映射，保持声明顺序
+     */
+    private final Map<String, ExcelFieldMetadata> fields;
+    /**
+     * 规范化的注解列头标题 和 属性元数据 的映射，用于按表头匹配属性
+     */
+    private final Map<String, List<ExcelFieldMetadata>> headerNameIndex;
+    private final boolean indexed;
+
+    private ExcelBeanMetadata(final Class<?> beanClass) {
+        this.beanClass = beanClass;
+
+        Map<String, ExcelFieldMetadata> map = new LinkedHashMap<String, ExcelFieldMetadata>();
+        boolean ignoreUnannotated = beanClass.isAnnotationPresent(ExcelIgnoreUnannotated.class);
+        boolean hasIndex = false;
+
+        // 子类属性优先，其次为父类属性
+        for (Class<?> type = beanClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+                        || field.isAnnotationPresent(ExcelIgnore.class) || map.containsKey(field.getName())) {
+                    continue;
+                }
+
+                ExcelProperty excelProperty = field.getAnnotation(ExcelProperty.class);
+                if (excelProperty == null && ignoreUnannotated) {
+                    continue;
+                }
+
+                ExcelCellProperty excelCellProperty = null;
+                if (excelProperty != null) {
+                    excelCellProperty = new ExcelCellProperty();
+                    excelCellProperty.setName(excelProperty.name());
+                    excelCellProperty.setIndex(excelProperty.index());
+                    excelCellProperty.setWith(excelProperty.with());
+                    excelCellProperty.setPrefix(excelProperty.prefix());
+                    excelCellProperty.setSuffix(excelProperty.suffix());
+                    excelCellProperty.setDateFormat(excelProperty.dateFormat());
+                    excelCellProperty.setCellStyleJson(excelProperty.cellStyleJson());
+                    hasIndex |= excelProperty.index() > -1;
+                }
+                map.put(field.getName(), new ExcelFieldMetadata(field, excelCellProperty));
+            }
+        }
+
+        this.fields = Collections.unmodifiableMap(map);
+        this.indexed = hasIndex;
+
+        Map<String, List<ExcelFieldMetadata>> index = new HashMap<String, List<ExcelFieldMetadata>>();
+        for (ExcelFieldMetadata field : map.values()) {
+            String key = field.isAnnotated() ? ExcelHeaderIndex.normalize(field.getHeaderName()) : null;
+            if (key == null) {
+                continue;
+            }
+            List<ExcelFieldMetadata> list = index.get(key);
+            if (list == null) {
+                list = new ArrayList<ExcelFieldMetadata>(1);
+                index.put(key, list);
+            }
+            list.add(field);
+        }
+        this.headerNameIndex = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * 获取Bean类的元数据
+     *
+     * @param beanClass Bean类
+     * @return Bean类的元数据
+     */
+    public static ExcelBeanMetadata of(final Class<?> beanClass) {
+        if (beanClass == null) {
+            throw new IllegalArgumentException("beanClass cannot be null.");
+        }
+        return CACHE.get(beanClass);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * 获取指定属性的元数据
+     *
+     * @param fieldName 属性Name
+     * @return 属性的元数据，不存在时为null
+     */
+    public ExcelFieldMetadata getField(final String fieldName) {
+        return fieldName != null ? fields.get(fieldName) : null;
+    }
+
+    public Collection<ExcelFieldMetadata> getFields() {
+        return fields.values();
+    }
+
+    /**
+     * 获取标注了 {@link ExcelProperty} 的属性
+     *
+     * @return 标注了注解的属性
+     */
+    public List<ExcelFieldMetadata> getAnnotatedFields() {
+        List<ExcelFieldMetadata> list = new ArrayList<ExcelFieldMetadata>(fields.size());
+        for (ExcelFieldMetadata field : fields.values()) {
+            if (field.isAnnotated()) {
+                list.add(field);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 按注解的列头标题查找属性
+     *
+     * @param headerKey 规范化的列头标题，见 {@link ExcelHeaderIndex#normalize(String)}
+     * @return 注解标题与之相同的属性（按声明顺序），不存在时为空列表
+     */
+    public List<ExcelFieldMetadata> getFieldsByHeaderKey(final String headerKey) {
+        List<ExcelFieldMetadata> list = headerKey != null ? headerNameIndex.get(headerKey) : null;
+        return list != null ? Collections.unmodifiableList(list) : Collections.<ExcelFieldMetadata>emptyList();
+    }
+
+    /**
+     * 是否有属性在注解中指定了列索引（用户设置的索引优先于列头标题）
+     *
+     * @return 是否指定了列索引
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+}
@@ -20,6 +20,24 @@ public class ExcelCellProperty {
     private String cellStyleJson;
     private CellStyle cellStyle;
 
+    public ExcelCellProperty() {}
+
+    /**
+     * 复制列头属性
+     *
+     * @param source 被复制的列头属性
+     */
+    public ExcelCellProperty(final ExcelCellProperty source) {
+        this.name = source.name;
+        this.index = source.index;
+        this.with = source.with;
+        this.prefix = source.prefix;
+        this.suffix = source.suffix;
+        this.dateFormat = source.dateFormat;
+        this.cellStyleJson = source.cellStyleJson;
+        this.cellStyle = source.cellStyle;
+    }
+
     public String getName() {
         return name;
     }
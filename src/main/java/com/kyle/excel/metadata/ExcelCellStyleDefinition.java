@@ -0,0 +1,297 @@
+package com.kyle.excel.metadata;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+
+/**
+ * 注解 {@link com.kyle.excel.annotation.ExcelProperty#cellStyleJson()} 中定义的单元格样式
+ * <p>只描述需要覆盖的部分（数据格式、字体、填充、边框、对齐），为null的项沿用模板样式。
+ * 每个不同的JSON字符串只解析一次，解析结果被缓存共享（不应修改），由 {@link com.kyle.excel.write.ExcelCellStylePool} 生成工作簿中的样式。</p>
+ *
+ * <pre>
+ * {"dataFormat":"#,##0.00","bold":true,"fontColor":"RED","fillForegroundColor":"YELLOW",
+ *  "fillPattern":"SOLID_FOREGROUND","border":"THIN","horizontalAlignment":"CENTER"}
+ * </pre>
+ *
+ * <p>颜色可以是 {@link IndexedColors} 的名称，也可以是颜色索引。</p>
+ *
+ * @package: com.kyle.excel.metadata
+ * @className: ExcelCellStyleDefinition
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 22:10
+ */
+public class ExcelCellStyleDefinition {
+    /**
+     * 最多缓存的样式定义数量，超出后清空重建
+     */
+    private static final int MAX_CACHED_DEFINITIONS = 256;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            // 禁用遇到未知属性抛出异常
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            // 视空字符传为null
+            .enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
+
+    private static final ConcurrentMap<String, ExcelCellStyleDefinition> CACHE =
+            new ConcurrentHashMap<String, ExcelCellStyleDefinition>();
+
+    /**
+     * 数据格式，如 "#,##0.00"
+     */
+    private String dataFormat;
+
+    /**
+     * 字体
+     */
+    private String fontName;
+    private Short fontHeightInPoints;
+    private Boolean bold;
+    private Boolean italic;
+    private Boolean underline;
+    private Boolean strikeout;
+    private String fontColor;
+
+    /**
+     * 填充
+     */
+    private String fillForegroundColor;
+    private FillPatternType fillPattern;
+
+    /**
+     * 边框，border 同时设置四边，单独设置的边优先
+     */
+    private BorderStyle border;
+    private BorderStyle borderTop;
+    private BorderStyle borderBottom;
+    private BorderStyle borderLeft;
+    private BorderStyle borderRight;
+    private String borderColor;
+
+    /**
+     * 对齐
+     */
+    private HorizontalAlignment horizontalAlignment;
+    private VerticalAlignment verticalAlignment;
+    private Boolean wrapText;
+
+    /**
+     * 解析样式JSON，相同的JSON字符串只解析一次
+     *
+     * @param json 样式JSON
+     * @return 样式定义，JSON为空时为null
+     */
+    public static ExcelCellStyleDefinition parse(final String json) {
+        if (StringUtils.isBlank(json)) {
+            return null;
+        }
+
+        ExcelCellStyleDefinition definition = CACHE.get(json);
+        if (definition == null) {
+            try {
+                definition = OBJECT_MAPPER.readValue(json, ExcelCellStyleDefinition.class);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Invalid cellStyleJson: " + json, e);
+            }
+            if (CACHE.size() >= MAX_CACHED_DEFINITIONS) {
+                CACHE.clear();
+            }
+            ExcelCellStyleDefinition existing = CACHE.putIfAbsent(json, definition);
+            definition = existing != null ? existing : definition;
+        }
+        return definition;
+    }
+
+    /**
+     * 是否定义了字体
+     *
+     * @return 是否定义了字体
+     */
+    public boolean hasFont() {
+        return fontName != null || fontHeightInPoints != null || bold != null || italic != null
+                || underline != null || strikeout != null || fontColor != null;
+    }
+
+    /**
+     * 将颜色名称或索引转换为颜色索引
+     *
+     * @param color {@link IndexedColors} 的名称或颜色索引
+     * @return 颜色索引，color为空时为null
+     */
+    public static Short toColorIndex(final String color) {
+        String value = StringUtils.trimToNull(color);
+        if (value == null) {
+            return null;
+        }
+        if (StringUtils.isNumeric(value)) {
+            return Short.valueOf(value);
+        }
+        try {
+            return IndexedColors.valueOf(value.toUpperCase(Locale.ROOT)).getIndex();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown color '" + color + "'", e);
+        }
+    }
+
+    public String getDataFormat() {
+        return dataFormat;
+    }
+
+    public void setDataFormat(String dataFormat) {
+        this.dataFormat = dataFormat;
+    }
+
+    public String getFontName() {
+        return fontName;
+    }
+
+    public void setFontName(String fontName) {
+        this.fontName = fontName;
+    }
+
+    public Short getFontHeightInPoints() {
+        return fontHeightInPoints;
+    }
+
+    public void setFontHeightInPoints(Short fontHeightInPoints) {
+        this.fontHeightInPoints = fontHeightInPoints;
+    }
+
+    public Boolean getBold() {
+        return bold;
+    }
+
+    public void setBold(Boolean bold) {
+        this.bold = bold;
+    }
+
+    public Boolean getItalic() {
+        return italic;
+    }
+
+    public void setItalic(Boolean italic) {
+        this.italic = italic;
+    }
+
+    public Boolean getUnderline() {
+        return underline;
+    }
+
+    public void setUnderline(Boolean underline) {
+        this.underline = underline;
+    }
+
+    public Boolean getStrikeout() {
+        return strikeout;
+    }
+
+    public void setStrikeout(Boolean strikeout) {
+        this.strikeout = strikeout;
+    }
+
+    public String getFontColor() {
+        return fontColor;
+    }
+
+    public void setFontColor(String fontColor) {
+        this.fontColor = fontColor;
+    }
+
+    public String getFillForegroundColor() {
+        return fillForegroundColor;
+    }
+
+    public void setFillForegroundColor(String fillForegroundColor) {
+        this.fillForegroundColor = fillForegroundColor;
+    }
+
+    public FillPatternType getFillPattern() {
+        return fillPattern;
+    }
+
+    public void setFillPattern(FillPatternType fillPattern) {
+        this.fillPattern = fillPattern;
+    }
+
+    public BorderStyle getBorder() {
+        return border;
+    }
+
+    public void setBorder(BorderStyle border) {
+        this.border = border;
+    }
+
+    public BorderStyle getBorderTop() {
+        return borderTop != null ? borderTop : border;
+    }
+
+    public void setBorderTop(BorderStyle borderTop) {
+        this.borderTop = borderTop;
+    }
+
+    public BorderStyle getBorderBottom() {
+        return borderBottom != null ? borderBottom : border;
+    }
+
+    public void setBorderBottom(BorderStyle borderBottom) {
+        this.borderBottom = borderBottom;
+    }
+
+    public BorderStyle getBorderLeft() {
+        return borderLeft != null ? borderLeft : border;
+    }
+
+    public void setBorderLeft(BorderStyle borderLeft) {
+        this.borderLeft = borderLeft;
+    }
+
+    public BorderStyle getBorderRight() {
+        return borderRight != null ? borderRight : border;
+    }
+
+    public void setBorderRight(BorderStyle borderRight) {
+        this.borderRight = borderRight;
+    }
+
+    public String getBorderColor() {
+        return borderColor;
+    }
+
+    public void setBorderColor(String borderColor) {
+        this.borderColor = borderColor;
+    }
+
+    public HorizontalAlignment getHorizontalAlignment() {
+        return horizontalAlignment;
+    }
+
+    public void setHorizontalAlignment(HorizontalAlignment horizontalAlignment) {
+        this.horizontalAlignment = horizontalAlignment;
+    }
+
+    public VerticalAlignment getVerticalAlignment() {
+        return verticalAlignment;
+    }
+
+    public void setVerticalAlignment(VerticalAlignment verticalAlignment) {
+        this.verticalAlignment = verticalAlignment;
+    }
+
+    public Boolean getWrapText() {
+        return wrapText;
+    }
+
+    public void setWrapText(Boolean wrapText) {
+        this.wrapText = wrapText;
+    }
+}
@@ -0,0 +1,387 @@
+package com.kyle.excel.metadata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * Excel数据Bean类的属性 和 模板列 的映射结果
+ * <p>映射结果只与Bean类、模板表头（列头标题及数据行样式）和调用者指定的headerMap有关，
+ * 因此按这三者缓存，同一模板的重复导出无需再次匹配表头。</p>
+ * <p>映射中只保存样式的索引，每次导出时再从对应的Workbook中取出CellStyle。</p>
+ * <p>表头通过 {@link ExcelHeaderIndex} 匹配，每列只需一次哈希查找；未匹配的列头、未匹配的属性和重复的列头作为诊断信息保留在映射中。</p>
+ *
+ * @package: com.kyle.excel.metadata
+ * @className: ExcelColumnMapping
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 13:41
+ */
+public final class ExcelColumnMapping {
+    /**
+     * 每个Bean类最多缓存的映射数量，超出后清空重建
+     */
+    private static final int MAX_CACHED_MAPPINGS = 256;
+
+    private static final ClassValue<ConcurrentMap<MappingKey, ExcelColumnMapping>> CACHE =
+            new ClassValue<ConcurrentMap<MappingKey, ExcelColumnMapping>>() {
+                @Override
+                protected ConcurrentMap<MappingKey, ExcelColumnMapping> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<MappingKey, ExcelColumnMapping>();
+                }
+            };
+
+    private final ExcelBeanMetadata beanMetadata;
+    private final ExcelFieldMetadata[] fields;
+    /**
+     * 已设置列索引的列头属性（不含样式）
+     */
+    private final ExcelCellProperty[] cellProperties;
+    /**
+     * 模板中的数据行样式索引，-1表示没有样式
+     */
+    private final int[] styleIndexes;
+    /**
+     * 没有匹配到属性的列头标题
+     */
+    private final List<String> unmatchedHeaders;
+    /**
+     * 没有匹配到列的属性Name
+     */
+    private final List<String> unmatchedFields;
+    /**
+     * 重复的列头标题 和 其所在的全部列索引
+     */
+    private final Map<String, List<Integer>> duplicateHeaders;
+
+    private ExcelColumnMapping(final ExcelBeanMetadata beanMetadata, final List<ExcelFieldMetadata> fields,
+                               final List<ExcelCellProperty> cellProperties, final int[] templateStyleIndexes,
+                               final List<String> unmatchedHeaders, final List<String> unmatchedFields,
+                               final Map<String, List<Integer>> duplicateHeaders) {
+        this.beanMetadata = beanMetadata;
+        this.unmatchedHeaders = Collections.unmodifiableList(unmatchedHeaders);
+        this.unmatchedFields = Collections.unmodifiableList(unmatchedFields);
+        this.duplicateHeaders = duplicateHeaders;
+        this.fields = fields.toArray(new ExcelFieldMetadata[0]);
+        this.cellProperties = cellProperties.toArray(new ExcelCellProperty[0]);
+        this.styleIndexes = new int[this.cellProperties.length];
+        for (int i = 0; i < this.cellProperties.length; i++) {
+            int columnIndex = this.cellProperties[i].getIndex();
+            this.styleIndexes[i] = columnIndex < templateStyleIndexes.length ? templateStyleIndexes[columnIndex] : -1;
+        }
+    }
+
+    /**
+     * 解析Bean类的属性 和 模板列 的映射，相同的表头只解析一次
+     *
+     * @param sheet     模板sheet
+     * @param rowIndex  表头行(0开始)，其下一行为数据行样式
+     * @param beanClass 存放数据的Bean类
+     * @param headerMap T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)，为空时使用注解
+     * @return 映射结果
+     */
+    public static ExcelColumnMapping resolve(final Sheet sheet, final int rowIndex, final Class<?> beanClass,
+                                             final Map<String, String> headerMap) {
+        return resolve(new MappingKey(rowIndex, readHeaders(sheet.getRow(rowIndex)),
+                readStyleIndexes(sheet.getRow(rowIndex + 1)), headerMap), beanClass);
+    }
+
+    /**
+     * 根据已读取的列头标题解析映射（用于流式读取，没有模板样式）
+     *
+     * @param headers   按列索引存放的列头标题，空单元格为null
+     * @param beanClass 存放数据的Bean类
+     * @param headerMap T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)，为空时使用注解
+     * @return 映射结果
+     */
+    public static ExcelColumnMapping resolve(final String[] headers, final Class<?> beanClass,
+                                             final Map<String, String> headerMap) {
+        String[] trimmedHeaders = new String[headers.length];
+        for (int i = 0; i < headers.length; i++) {
+            trimmedHeaders[i] = StringUtils.trimToNull(headers[i]);
+        }
+        return resolve(new MappingKey(-1, trimmedHeaders, new int[0], headerMap), beanClass);
+    }
+
+    private static ExcelColumnMapping resolve(final MappingKey key, final Class<?> beanClass) {
+        ConcurrentMap<MappingKey, ExcelColumnMapping> mappings = CACHE.get(beanClass);
+        ExcelColumnMapping mapping = mappings.get(key);
+        if (mapping == null) {
+            if (mappings.size() >= MAX_CACHED_MAPPINGS) {
+                mappings.clear();
+            }
+            mapping = create(ExcelBeanMetadata.of(beanClass), key);
+            ExcelColumnMapping existing = mappings.putIfAbsent(key, mapping);
+            mapping = existing != null ? existing : mapping;
+        }
+        return mapping;
+    }
+
+    private static ExcelColumnMapping create(final ExcelBeanMetadata beanMetadata, final MappingKey key) {
+        List<ExcelFieldMetadata> fields = new ArrayList<ExcelFieldMetadata>();
+        List<ExcelCellProperty> cellProperties = new ArrayList<ExcelCellProperty>();
+        ExcelHeaderIndex headerIndex = new ExcelHeaderIndex(key.headers);
+        List<String> unmatchedHeaders = new ArrayList<String>();
+        List<String> unmatchedFields = new ArrayList<String>();
+
+        // 用户设置的索引优先（调用者指定headerMap时除外）
+        if ((key.headerMap == null || key.headerMap.isEmpty()) && beanMetadata.isIndexed()) {
+            for (ExcelFieldMetadata field : beanMetadata.getFields()) {
+                if (field.getHeaderIndex() < 0)
+                    continue;
+
+                fields.add(field);
+                cellProperties.add(field.getCellProperty());
+            }
+            return new ExcelColumnMapping(beanMetadata, fields, cellProperties, key.styleIndexes,
+                    unmatchedHeaders, unmatchedFields, headerIndex.getDuplicateHeaders());
+        }
+
+        // 规范化列头标题 和 候选属性 的映射：调用者指定的headerMap，或注解的列头标题
+        Map<String, List<ExcelFieldMetadata>> candidates = null;
+        if (key.headerMap != null && key.headerMap.size() > 0) {
+            candidates = new HashMap<String, List<ExcelFieldMetadata>>();
+            for (Entry<String, String> headerEntry : key.headerMap.entrySet()) {
+                ExcelFieldMetadata field = beanMetadata.getField(StringUtils.trimToNull(headerEntry.getKey()));
+                String headerKey = ExcelHeaderIndex.normalize(headerEntry.getValue());
+                if (field == null || headerKey == null) {
+                    unmatchedFields.add(headerEntry.getKey());
+                    continue;
+                }
+                List<ExcelFieldMetadata> list = candidates.get(headerKey);
+                if (list == null) {
+                    list = new ArrayList<ExcelFieldMetadata>(1);
+                    candidates.put(headerKey, list);
+                }
+                list.add(field);
+            }
+        }
+
+        // 每列一次哈希查找；同一标题出现在多列时只映射第一列，同一属性只映射一次
+        Set<ExcelFieldMetadata> mapped = new HashSet<ExcelFieldMetadata>();
+        for (int columnIndex = 0; columnIndex < headerIndex.size(); columnIndex++) {
+            if (!headerIndex.isFirstOccurrence(columnIndex))
+                continue;
+
+            String headerKey = headerIndex.getKey(columnIndex);
+            List<ExcelFieldMetadata> matches = candidates != null ? candidates.get(headerKey)
+                    : beanMetadata.getFieldsByHeaderKey(headerKey);
+            if (matches == null || matches.isEmpty()) {
+                unmatchedHeaders.add(headerIndex.getHeader(columnIndex));
+                continue;
+            }
+
+            for (ExcelFieldMetadata field : matches) {
+                if (!mapped.add(field))
+                    continue;
+
+                // 映射
+                ExcelCellProperty excelCellProperty = candidates != null ? new ExcelCellProperty() : field.getCellProperty();
+                // 设置索引
+                excelCellProperty.setIndex(columnIndex);
+                fields.add(field);
+                cellProperties.add(excelCellProperty);
+            }
+        }
+
+        // 未匹配到列的属性
+        if (candidates != null) {
+            for (List<ExcelFieldMetadata> list : candidates.values()) {
+                for (ExcelFieldMetadata field : list) {
+                    if (!mapped.contains(field)) {
+                        unmatchedFields.add(field.getName());
+                    }
+                }
+            }
+        } else {
+            for (ExcelFieldMetadata field : beanMetadata.getAnnotatedFields()) {
+                if (!mapped.contains(field) && ExcelHeaderIndex.normalize(field.getHeaderName()) != null) {
+                    unmatchedFields.add(field.getName());
+                }
+            }
+        }
+
+        return new ExcelColumnMapping(beanMetadata, fields, cellProperties, key.styleIndexes,
+                unmatchedHeaders, unmatchedFields, headerIndex.getDuplicateHeaders());
+    }
+
+    /**
+     * 读取表头行的列头标题
+     *
+     * @param row 表头行
+     * @return 按列索引存放的列头标题(已去除首尾空格)，空单元格为null
+     */
+    private static String[] readHeaders(final Row row) {
+        if (row == null || row.getLastCellNum() < 0) {
+            return new String[0];
+        }
+
+        String[] headers = new String[row.getLastCellNum()];
+        for (Cell cell : row) {
+            if (cell != null && cell.getCellType() == CellType.STRING) {
+                headers[cell.getColumnIndex()] = StringUtils.trimToNull(cell.getStringCellValue());
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * 读取数据行的样式索引
+     *
+     * @param row 数据行
+     * @return 按列索引存放的样式索引，没有单元格的列为-1
+     */
+    private static int[] readStyleIndexes(final Row row) {
+        if (row == null || row.getLastCellNum() < 0) {
+            return new int[0];
+        }
+
+        int[] styleIndexes = new int[row.getLastCellNum()];
+        Arrays.fill(styleIndexes, -1);
+        for (Cell cell : row) {
+            if (cell != null) {
+                styleIndexes[cell.getColumnIndex()] = cell.getCellStyle().getIndex();
+            }
+        }
+        return styleIndexes;
+    }
+
+    public ExcelBeanMetadata getBeanMetadata() {
+        return beanMetadata;
+    }
+
+    /**
+     * 已映射的列数
+     *
+     * @return 列数
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    public ExcelFieldMetadata getField(final int i) {
+        return fields[i];
+    }
+
+    public int getColumnIndex(final int i) {
+        return cellProperties[i].getIndex();
+    }
+
+    /**
+     * 获取映射列的Excel列属性（不含样式）
+     *
+     * @param i 第i个映射列
+     * @return 列属性的副本
+     */
+    public ExcelCellProperty getCellProperty(final int i) {
+        return new ExcelCellProperty(cellProperties[i]);
+    }
+
+    /**
+     * 获取模板中的数据行样式索引
+     *
+     * @param i 第i个映射列
+     * @return 样式索引，-1表示没有样式
+     */
+    public int getStyleIndex(final int i) {
+        return styleIndexes[i];
+    }
+
+    /**
+     * 诊断信息：模板中没有匹配到任何属性的列头标题（按列顺序）
+     *
+     * @return 未匹配的列头标题
+     */
+    public List<String> getUnmatchedHeaders() {
+        return unmatchedHeaders;
+    }
+
+    /**
+     * 诊断信息：没有匹配到模板列的属性（注解了列头标题的属性，或headerMap中的属性）
+     *
+     * @return 未匹配的属性Name
+     */
+    public List<String> getUnmatchedFields() {
+        return unmatchedFields;
+    }
+
+    /**
+     * 诊断信息：模板中重复的列头标题，映射时只使用第一列
+     *
+     * @return 列头标题 和 其所在的全部列索引 的映射
+     */
+    public Map<String, List<Integer>> getDuplicateHeaders() {
+        return duplicateHeaders;
+    }
+
+    /**
+     * 为指定工作簿生成各映射列的Excel列属性
+     *
+     * @param workbook 模板工作簿，映射没有模板样式时(流式读取)可为null
+     * @return 与映射列顺序一致的Excel列属性(含模板样式)，每次调用都返回新的副本
+     */
+    public ExcelCellProperty[] createCellProperties(final Workbook workbook) {
+        ExcelCellProperty[] properties = new ExcelCellProperty[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            properties[i] = new ExcelCellProperty(cellProperties[i]);
+            properties[i].setCellStyle(styleIndexes[i] >= 0 ? workbook.getCellStyleAt(styleIndexes[i]) : null);
+        }
+        return properties;
+    }
+
+    /**
+     * 映射缓存的键：表头行、列头标题、数据行样式 和 headerMap
+     */
+    private static final class MappingKey {
+        private final int rowIndex;
+        private final String[] headers;
+        private final int[] styleIndexes;
+        private final Map<String, String> headerMap;
+        private final int hash;
+
+        private MappingKey(final int rowIndex, final String[] headers, final int[] styleIndexes,
+                           final Map<String, String> headerMap) {
+            this.rowIndex = rowIndex;
+            this.headers = headers;
+            this.styleIndexes = styleIndexes;
+            this.headerMap = headerMap != null && headerMap.size() > 0 ? new LinkedHashMap<String, String>(headerMap) : null;
+            this.hash = Objects.hash(rowIndex, Arrays.hashCode(headers), Arrays.hashCode(styleIndexes), this.headerMap);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MappingKey)) {
+                return false;
+            }
+            MappingKey that = (MappingKey) o;
+            return rowIndex == that.rowIndex
+                    && Arrays.equals(headers, that.headers)
+                    && Arrays.equals(styleIndexes, that.styleIndexes)
+                    && Objects.equals(headerMap, that.headerMap);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.kyle.excel.metadata;
+
+/**
+ * Excel数据Bean类的属性读取器
+ * <p>由 {@link ExcelFieldMetadata#getAccessor()} 创建并缓存，优先使用 LambdaMetafactory 生成的getter，
+ * 其次为 MethodHandle，最后回退到反射。</p>
+ *
+ * @package: com.kyle.excel.metadata
+ * @className: ExcelFieldAccessor
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 14:30
+ */
+public interface ExcelFieldAccessor {
+    /**
+     * 读取属性值
+     *
+     * @param bean 存放数据的Bean
+     * @return 属性值
+     */
+    Object get(Object bean);
+}
@@ -0,0 +1,315 @@
+package com.kyle.excel.metadata;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.kyle.excel.exception.ExcelAnalysisException;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * {@link ExcelFieldAccessor} 的创建工厂
+ *
+ * @package: com.kyle.excel.metadata
+ * @className: ExcelFieldAccessors
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 14:34
+ */
+final class ExcelFieldAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private ExcelFieldAccessors() {}
+
+    /**
+     * 为属性创建读取器
+     *
+     * @param field 属性
+     * @return 属性读取器
+     */
+    static ExcelFieldAccessor create(final Field field) {
+        Method getter = findGetter(field);
+
+        // 公开的getter：生成lambda
+        if (getter != null && isLambdaAccessible(getter)) {
+            try {
+                return lambdaAccessor(getter);
+            } catch (Throwable e) {
+                // 回退到MethodHandle
+            }
+        }
+
+        // MethodHandle
+        try {
+            MethodHandle handle;
+            if (getter != null) {
+                getter.setAccessible(true);
+                handle = LOOKUP.unreflect(getter);
+            } else {
+                field.setAccessible(true);
+                handle = LOOKUP.unreflectGetter(field);
+            }
+            return methodHandleAccessor(handle.asType(MethodType.methodType(Object.class, Object.class)), field);
+        } catch (RuntimeException | IllegalAccessException e) {
+            // 回退到反射
+        }
+
+        return reflectionAccessor(field);
+    }
+
+    /**
+     * 为数值基本类型的属性创建读取器，读取过程不装箱
+     *
+     * @param field 属性（short/int/long/float/double）
+     * @return 数值属性读取器
+     */
+    static ExcelNumericFieldAccessor createNumeric(final Field field) {
+        Method getter = findGetter(field);
+        if (getter != null && getter.getReturnType() != field.getType()) {
+            getter = null;
+        }
+
+        // 公开的getter：按返回类型生成 ToIntFunction / ToLongFunction / ToDoubleFunction
+        if (getter != null && isLambdaAccessible(getter)) {
+            try {
+                return numericLambdaAccessor(getter);
+            } catch (Throwable e) {
+                // 回退到MethodHandle
+            }
+        }
+
+        // MethodHandle，返回值直接转换为double
+        try {
+            MethodHandle handle;
+            if (getter != null) {
+                getter.setAccessible(true);
+                handle = LOOKUP.unreflect(getter);
+            } else {
+                field.setAccessible(true);
+                handle = LOOKUP.unreflectGetter(field);
+            }
+            return numericMethodHandleAccessor(handle.asType(MethodType.methodType(double.class, Object.class)),
+                    MethodHandles.explicitCastArguments(handle, MethodType.methodType(long.class, Object.class)), field);
+        } catch (RuntimeException | IllegalAccessException e) {
+            // 回退到反射
+        }
+
+        // 反射：Field.getDouble / getLong 同样不装箱
+        field.setAccessible(true);
+        final boolean floating = field.getType() == float.class || field.getType() == double.class;
+        return new ExcelNumericFieldAccessor() {
+            @Override
+            public double getDouble(Object bean) {
+                try {
+                    return field.getDouble(bean);
+                } catch (IllegalAccessException e) {
+                    throw new ExcelAnalysisException("Can not read field '" + field.getName() + "'", e);
+                }
+            }
+
+            @Override
+            public long getLong(Object bean) {
+                try {
+                    return floating ? (long) field.getDouble(bean) : field.getLong(bean);
+                } catch (IllegalAccessException e) {
+                    throw new ExcelAnalysisException("Can not read field '" + field.getName() + "'", e);
+                }
+            }
+        };
+    }
+
+    /**
+     * 查找属性的getter（getXxx / isXxx）
+     *
+     * @param field 属性
+     * @return getter，不存在时为null
+     */
+    private static Method findGetter(final Field field) {
+        String capitalized = StringUtils.capitalize(field.getName());
+        Class<?> beanClass = field.getDeclaringClass();
+        for (String prefix : new String[]{"get", "is"}) {
+            if ("is".equals(prefix) && field.getType() != boolean.class && field.getType() != Boolean.class) {
+                continue;
+            }
+            try {
+                Method method = beanClass.getMethod(prefix + capitalized);
+                if (!Modifier.isStatic(method.getModifiers()) && field.getType().isAssignableFrom(method.getReturnType())) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // 继续查找
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 生成的lambda类由本类的ClassLoader加载，只有当Bean类及getter公开且对其可见时才能使用
+     */
+    private static boolean isLambdaAccessible(final Method getter) {
+        Class<?> declaringClass = getter.getDeclaringClass();
+        if (!Modifier.isPublic(declaringClass.getModifiers()) || !Modifier.isPublic(getter.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(declaringClass.getName(), false, ExcelFieldAccessors.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExcelFieldAccessor lambdaAccessor(final Method getter) throws Throwable {
+        MethodHandle handle = LOOKUP.unreflect(getter);
+        CallSite callSite = LambdaMetafactory.metafactory(
+                LOOKUP,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                handle,
+                handle.type().wrap());
+        final Function<Object, Object> function = (Function<Object, Object>) callSite.getTarget().invokeExact();
+        return new ExcelFieldAccessor() {
+            @Override
+            public Object get(Object bean) {
+                return function.apply(bean);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExcelNumericFieldAccessor numericLambdaAccessor(final Method getter) throws Throwable {
+        MethodHandle handle = LOOKUP.unreflect(getter);
+        Class<?> returnType = getter.getReturnType();
+        Class<?> functionType;
+        String methodName;
+        Class<?> samReturnType;
+        if (returnType == long.class) {
+            functionType = ToLongFunction.class;
+            methodName = "applyAsLong";
+            samReturnType = long.class;
+        } else if (returnType == float.class || returnType == double.class) {
+            functionType = ToDoubleFunction.class;
+            methodName = "applyAsDouble";
+            samReturnType = double.class;
+        } else {
+            functionType = ToIntFunction.class;
+            methodName = "applyAsInt";
+            samReturnType = int.class;
+        }
+
+        CallSite callSite = LambdaMetafactory.metafactory(
+                LOOKUP,
+                methodName,
+                MethodType.methodType(functionType),
+                MethodType.methodType(samReturnType, Object.class),
+                handle,
+                MethodType.methodType(samReturnType, getter.getDeclaringClass()));
+        Object function = callSite.getTarget().invoke();
+
+        if (function instanceof ToLongFunction) {
+            final ToLongFunction<Object> toLong = (ToLongFunction<Object>) function;
+            return new ExcelNumericFieldAccessor() {
+                @Override
+                public double getDouble(Object bean) {
+                    return toLong.applyAsLong(bean);
+                }
+
+                @Override
+                public long getLong(Object bean) {
+                    return toLong.applyAsLong(bean);
+                }
+            };
+        }
+        if (function instanceof ToDoubleFunction) {
+            final ToDoubleFunction<Object> toDouble = (ToDoubleFunction<Object>) function;
+            return new ExcelNumericFieldAccessor() {
+                @Override
+                public double getDouble(Object bean) {
+                    return toDouble.applyAsDouble(bean);
+                }
+
+                @Override
+                public long getLong(Object bean) {
+                    return (long) toDouble.applyAsDouble(bean);
+                }
+            };
+        }
+        final ToIntFunction<Object> toInt = (ToIntFunction<Object>) function;
+        return new ExcelNumericFieldAccessor() {
+            @Override
+            public double getDouble(Object bean) {
+                return toInt.applyAsInt(bean);
+            }
+
+            @Override
+            public long getLong(Object bean) {
+                return toInt.applyAsInt(bean);
+            }
+        };
+    }
+
+    private static ExcelNumericFieldAccessor numericMethodHandleAccessor(final MethodHandle doubleHandle,
+                                                                         final MethodHandle longHandle, final Field field) {
+        return new ExcelNumericFieldAccessor() {
+            @Override
+            public double getDouble(Object bean) {
+                try {
+                    return (double) doubleHandle.invokeExact(bean);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ExcelAnalysisException("Can not read field '" + field.getName() + "'", e);
+                }
+            }
+
+            @Override
+            public long getLong(Object bean) {
+                try {
+                    return (long) longHandle.invokeExact(bean);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ExcelAnalysisException("Can not read field '" + field.getName() + "'", e);
+                }
+            }
+        };
+    }
+
+    private static ExcelFieldAccessor methodHandleAccessor(final MethodHandle handle, final Field field) {
+        return new ExcelFieldAccessor() {
+            @Override
+            public Object get(Object bean) {
+                try {
+                    return (Object) handle.invokeExact(bean);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ExcelAnalysisException("Can not read field '" + field.getName() + "'", e);
+                }
+            }
+        };
+    }
+
+    private static ExcelFieldAccessor reflectionAccessor(final Field field) {
+        field.setAccessible(true);
+        return new ExcelFieldAccessor() {
+            @Override
+            public Object get(Object bean) {
+                try {
+                    return field.get(bean);
+                } catch (IllegalAccessException e) {
+                    throw new ExcelAnalysisException("Can not read field '" + field.getName() + "'", e);
+                }
+            }
+        };
+    }
+}
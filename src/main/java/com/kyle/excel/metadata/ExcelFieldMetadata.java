@@ -0,0 +1,134 @@
+package com.kyle.excel.metadata;
+
+import java.lang.reflect.Field;
+
+/**
+ * Excel数据Bean类的单个属性的元数据
+ * <p>由 {@link ExcelBeanMetadata} 在首次使用该Bean类时解析并缓存，之后不再变化。</p>
+ *
+ * @package: com.kyle.excel.metadata
+ * @className: ExcelFieldMetadata
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 13:20
+ */
+public final class ExcelFieldMetadata {
+    /**
+     * Excel数据Bean类的属性
+     */
+    private final String name;
+    private final Class<?> type;
+    private final Field field;
+    /**
+     * 注解中的Excel列头属性，未标注注解时为null
+     */
+    private final ExcelCellProperty cellProperty;
+    /**
+     * 属性读取器，首次使用时创建
+     */
+    private volatile ExcelFieldAccessor accessor;
+    /**
+     * 数值属性读取器，首次使用时创建
+     */
+    private volatile ExcelNumericFieldAccessor numericAccessor;
+
+    ExcelFieldMetadata(final Field field, final ExcelCellProperty cellProperty) {
+        this.name = field.getName();
+        this.type = field.getType();
+        this.field = field;
+        this.cellProperty = cellProperty;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * 获取属性读取器
+     *
+     * @return 属性读取器
+     */
+    public ExcelFieldAccessor getAccessor() {
+        ExcelFieldAccessor fieldAccessor = accessor;
+        if (fieldAccessor == null) {
+            fieldAccessor = ExcelFieldAccessors.create(field);
+            accessor = fieldAccessor;
+        }
+        return fieldAccessor;
+    }
+
+    /**
+     * 是否为可以不装箱直接写入单元格的数值基本类型（short/int/long/float/double）
+     *
+     * @return 是否为数值基本类型
+     */
+    public boolean isNumericPrimitive() {
+        return type == short.class || type == int.class || type == long.class
+                || type == float.class || type == double.class;
+    }
+
+    /**
+     * 获取数值属性读取器
+     *
+     * @return 数值属性读取器，属性不是数值基本类型时为null
+     */
+    public ExcelNumericFieldAccessor getNumericAccessor() {
+        if (!isNumericPrimitive()) {
+            return null;
+        }
+        ExcelNumericFieldAccessor fieldAccessor = numericAccessor;
+        if (fieldAccessor == null) {
+            fieldAccessor = ExcelFieldAccessors.createNumeric(field);
+            numericAccessor = fieldAccessor;
+        }
+        return fieldAccessor;
+    }
+
+    /**
+     * 是否标注了 {@link com.kyle.excel.annotation.ExcelProperty}
+     *
+     * @return 是否标注了注解
+     */
+    public boolean isAnnotated() {
+        return cellProperty != null;
+    }
+
+    /**
+     * 获取注解中的Excel列头属性
+     *
+     * @return 列头属性的副本，未标注注解时返回一个列索引为-1的空属性
+     */
+    public ExcelCellProperty getCellProperty() {
+        if (cellProperty == null) {
+            ExcelCellProperty excelCellProperty = new ExcelCellProperty();
+            excelCellProperty.setIndex(-1);
+            return excelCellProperty;
+        }
+        return new ExcelCellProperty(cellProperty);
+    }
+
+    /**
+     * 注解中的列头标题
+     *
+     * @return 列头标题，未标注注解时为null
+     */
+    public String getHeaderName() {
+        return cellProperty != null ? cellProperty.getName() : null;
+    }
+
+    /**
+     * 注解中的列索引
+     *
+     * @return 列索引，未标注注解或未指定时为-1
+     */
+    public int getHeaderIndex() {
+        return cellProperty != null ? cellProperty.getIndex() : -1;
+    }
+}
@@ -0,0 +1,149 @@
+package com.kyle.excel.metadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 模板表头的索引
+ * <p>每个列头标题只规范化（去除首尾空格、忽略大小写）一次，按规范化后的标题查找列只需一次哈希查找。
+ * 同一标题出现在多列时，以第一列为准，其余列记录为重复表头。</p>
+ *
+ * @package: com.kyle.excel.metadata
+ * @className: ExcelHeaderIndex
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 21:00
+ */
+public final class ExcelHeaderIndex {
+    /**
+     * 按列索引存放的列头标题(已去除首尾空格)，空单元格为null
+     */
+    private final String[] headers;
+    /**
+     * 按列索引存放的规范化标题，空单元格为null
+     */
+    private final String[] keys;
+    /**
+     * 规范化标题 和 第一次出现的列索引 的映射
+     */
+    private final Map<String, Integer> columnIndexes;
+    /**
+     * 重复的列头标题 和 其所在的全部列索引 的映射
+     */
+    private final Map<String, List<Integer>> duplicateHeaders;
+
+    /**
+     * 创建表头索引
+     *
+     * @param headers 按列索引存放的列头标题，空单元格为null
+     */
+    public ExcelHeaderIndex(final String[] headers) {
+        this.headers = new String[headers.length];
+        this.keys = new String[headers.length];
+        this.columnIndexes = new HashMap<String, Integer>(headers.length * 2);
+
+        Map<String, List<Integer>> duplicates = null;
+        for (int columnIndex = 0; columnIndex < headers.length; columnIndex++) {
+            this.headers[columnIndex] = StringUtils.trimToNull(headers[columnIndex]);
+            String key = normalize(this.headers[columnIndex]);
+            keys[columnIndex] = key;
+            if (key == null) {
+                continue;
+            }
+
+            Integer first = columnIndexes.putIfAbsent(key, columnIndex);
+            if (first != null) {
+                if (duplicates == null) {
+                    duplicates = new LinkedHashMap<String, List<Integer>>();
+                }
+                List<Integer> columns = duplicates.get(this.headers[first]);
+                if (columns == null) {
+                    columns = new ArrayList<Integer>();
+                    columns.add(first);
+                    duplicates.put(this.headers[first], columns);
+                }
+                columns.add(columnIndex);
+            }
+        }
+        this.duplicateHeaders = duplicates != null ? Collections.unmodifiableMap(duplicates)
+                : Collections.<String, List<Integer>>emptyMap();
+    }
+
+    /**
+     * 规范化列头标题：去除首尾空格并忽略大小写
+     *
+     * @param header 列头标题
+     * @return 规范化后的标题，空白时为null
+     */
+    public static String normalize(final String header) {
+        String trimmed = StringUtils.trimToNull(header);
+        // 先转大写再转小写，与 equalsIgnoreCase 的比较规则一致
+        return trimmed != null ? trimmed.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * 表头的列数
+     *
+     * @return 列数
+     */
+    public int size() {
+        return headers.length;
+    }
+
+    /**
+     * 获取列头标题
+     *
+     * @param columnIndex 列索引(0开始)
+     * @return 已去除首尾空格的列头标题，空单元格为null
+     */
+    public String getHeader(final int columnIndex) {
+        return headers[columnIndex];
+    }
+
+    /**
+     * 获取规范化的列头标题
+     *
+     * @param columnIndex 列索引(0开始)
+     * @return 规范化后的标题，空单元格为null
+     */
+    public String getKey(final int columnIndex) {
+        return keys[columnIndex];
+    }
+
+    /**
+     * 按列头标题查找列（忽略首尾空格和大小写）
+     *
+     * @param header 列头标题
+     * @return 第一次出现的列索引，不存在时为-1
+     */
+    public int getColumnIndex(final String header) {
+        String key = normalize(header);
+        Integer columnIndex = key != null ? columnIndexes.get(key) : null;
+        return columnIndex != null ? columnIndex : -1;
+    }
+
+    /**
+     * 该列是否为其标题第一次出现的列（空单元格返回false）
+     *
+     * @param columnIndex 列索引(0开始)
+     * @return 是否第一次出现
+     */
+    public boolean isFirstOccurrence(final int columnIndex) {
+        return keys[columnIndex] != null && columnIndexes.get(keys[columnIndex]) == columnIndex;
+    }
+
+    /**
+     * 获取重复的列头标题
+     *
+     * @return 列头标题(第一次出现时的写法) 和 其所在的全部列索引 的映射
+     */
+    public Map<String, List<Integer>> getDuplicateHeaders() {
+        return duplicateHeaders;
+    }
+}
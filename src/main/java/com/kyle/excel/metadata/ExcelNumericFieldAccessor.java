@@ -0,0 +1,29 @@
+package com.kyle.excel.metadata;
+
+/**
+ * Excel数据Bean类的数值属性读取器
+ * <p>用于 short/int/long/float/double 基本类型的属性，直接以 double 或 long 返回属性值，读取时不装箱。
+ * 由 {@link ExcelFieldMetadata#getNumericAccessor()} 创建并缓存。</p>
+ *
+ * @package: com.kyle.excel.metadata
+ * @className: ExcelNumericFieldAccessor
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 21:40
+ */
+public interface ExcelNumericFieldAccessor {
+    /**
+     * 读取属性值
+     *
+     * @param bean 存放数据的Bean
+     * @return 属性值
+     */
+    double getDouble(Object bean);
+
+    /**
+     * 读取属性值，short/int/long 属性返回精确值，float/double 属性截断小数部分
+     *
+     * @param bean 存放数据的Bean
+     * @return 属性值
+     */
+    long getLong(Object bean);
+}
@@ -0,0 +1,130 @@
+package com.kyle.excel.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 在内存中汇总导出指标的监听器
+ * <p>耗时以纳秒记录在 {@link ExcelHistogram} 中，行数、单元格数、字节数和样式池统计累加为总数。
+ * 可被多个导出共用，定期读取后调用 {@link #reset()} 即可按周期上报。</p>
+ *
+ * @package: com.kyle.excel.metrics
+ * @className: ExcelHistogramMetricsListener
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 20:40
+ */
+public class ExcelHistogramMetricsListener implements ExcelMetricsListener {
+    private final ExcelHistogram templateLoadNanos = new ExcelHistogram();
+    private final ExcelHistogram mappingResolveNanos = new ExcelHistogram();
+    private final ExcelHistogram workbookWriteNanos = new ExcelHistogram();
+    private final ExcelHistogram workbookBytes = new ExcelHistogram();
+    private final ExcelHistogram rowsPerWrite = new ExcelHistogram();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder cells = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder styleCacheHits = new LongAdder();
+    private final LongAdder styleCacheMisses = new LongAdder();
+    private final ExcelHistogram styleCacheSize = new ExcelHistogram();
+
+    @Override
+    public void onTemplateLoaded(String template, long nanos) {
+        templateLoadNanos.record(nanos);
+    }
+
+    @Override
+    public void onMappingResolved(Class<?> beanClass, int columns, long nanos) {
+        mappingResolveNanos.record(nanos);
+    }
+
+    @Override
+    public void onRowsWritten(int sheetIndex, long rows, long cells) {
+        rowsPerWrite.record(rows);
+        this.rows.add(rows);
+        this.cells.add(cells);
+    }
+
+    @Override
+    public void onWorkbookWritten(long bytes, long nanos) {
+        workbookWriteNanos.record(nanos);
+        workbookBytes.record(bytes);
+        this.bytes.add(bytes);
+    }
+
+    @Override
+    public void onStyleCacheStats(long hits, long misses, int size) {
+        styleCacheHits.add(hits);
+        styleCacheMisses.add(misses);
+        styleCacheSize.record(size);
+    }
+
+    /**
+     * 清空所有记录
+     */
+    public void reset() {
+        templateLoadNanos.reset();
+        mappingResolveNanos.reset();
+        workbookWriteNanos.reset();
+        workbookBytes.reset();
+        rowsPerWrite.reset();
+        rows.reset();
+        cells.reset();
+        bytes.reset();
+        styleCacheHits.reset();
+        styleCacheMisses.reset();
+        styleCacheSize.reset();
+    }
+
+    public ExcelHistogram getTemplateLoadNanos() {
+        return templateLoadNanos;
+    }
+
+    public ExcelHistogram getMappingResolveNanos() {
+        return mappingResolveNanos;
+    }
+
+    public ExcelHistogram getWorkbookWriteNanos() {
+        return workbookWriteNanos;
+    }
+
+    public ExcelHistogram getWorkbookBytes() {
+        return workbookBytes;
+    }
+
+    public ExcelHistogram getRowsPerWrite() {
+        return rowsPerWrite;
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getCells() {
+        return cells.sum();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public long getStyleCacheHits() {
+        return styleCacheHits.sum();
+    }
+
+    public long getStyleCacheMisses() {
+        return styleCacheMisses.sum();
+    }
+
+    public ExcelHistogram getStyleCacheSize() {
+        return styleCacheSize;
+    }
+
+    @Override
+    public String toString() {
+        return "templateLoadNanos: " + templateLoadNanos
+                + "\nmappingResolveNanos: " + mappingResolveNanos
+                + "\nworkbookWriteNanos: " + workbookWriteNanos
+                + "\nworkbookBytes: " + workbookBytes
+                + "\nrowsPerWrite: " + rowsPerWrite
+                + "\nrows=" + getRows() + ", cells=" + getCells() + ", bytes=" + getBytes()
+                + "\nstyleCache: hits=" + getStyleCacheHits() + ", misses=" + getStyleCacheMisses() + ", size " + styleCacheSize;
+    }
+}
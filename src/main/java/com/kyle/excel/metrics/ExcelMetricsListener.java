@@ -0,0 +1,62 @@
+package com.kyle.excel.metrics;
+
+/**
+ * 导出指标监听器
+ * <p>通过 {@link com.kyle.excel.write.ExcelWriteConfig#setMetricsListener(ExcelMetricsListener)} 注册，
+ * 在导出的各个阶段被调用，可将数据转发到自己的监控系统。所有方法默认为空实现，只需覆盖关心的事件。</p>
+ * <p>同一个监听器可能被多个导出同时调用，实现需要是线程安全的，且不应执行耗时操作。</p>
+ *
+ * @package: com.kyle.excel.metrics
+ * @className: ExcelMetricsListener
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 20:30
+ */
+public interface ExcelMetricsListener {
+    /**
+     * 模板已读取并解析为Workbook
+     *
+     * @param template 模板文件全路径，以流方式传入模板时为null
+     * @param nanos    读取和解析的耗时(纳秒)
+     */
+    default void onTemplateLoaded(String template, long nanos) {
+    }
+
+    /**
+     * sheet页的列映射已解析
+     *
+     * @param beanClass 待写入数据的Bean类
+     * @param columns   已映射的列数
+     * @param nanos     解析耗时(纳秒)
+     */
+    default void onMappingResolved(Class<?> beanClass, int columns, long nanos) {
+    }
+
+    /**
+     * 一次写入调用已完成
+     *
+     * @param sheetIndex sheet页
+     * @param rows       写入的行数
+     * @param cells      写入的单元格数
+     */
+    default void onRowsWritten(int sheetIndex, long rows, long cells) {
+    }
+
+    /**
+     * Workbook已保存到输出流
+     *
+     * @param bytes 写出的字节数
+     * @param nanos workbook.write 的耗时(纳秒)
+     */
+    default void onWorkbookWritten(long bytes, long nanos) {
+    }
+
+    /**
+     * 写入会话关闭时的样式池统计
+     *
+     * @param hits   命中次数
+     * @param misses 未命中（新建样式）次数
+     * @param size   样式池中的样式数
+     */
+    default void onStyleCacheStats(long hits, long misses, int size) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.kyle.excel.metrics;
+
+/**
+ * 不做任何处理的指标监听器，写入配置的默认值
+ *
+ * @package: com.kyle.excel.metrics
+ * @className: ExcelNoOpMetricsListener
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 20:32
+ */
+public final class ExcelNoOpMetricsListener implements ExcelMetricsListener {
+    public static final ExcelNoOpMetricsListener INSTANCE = new ExcelNoOpMetricsListener();
+
+    private ExcelNoOpMetricsListener() {
+    }
+}
@@ -0,0 +1,74 @@
+package com.kyle.excel.read;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Map;
+
+import com.kyle.excel.exception.ExcelAnalysisException;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.util.FileUtil;
+
+/**
+ * Excel流式读取
+ * <p>xls 和 xlsx 的读取器共用此接口和 {@link ExcelRowHandler} 行回调，调用者无需关心文件格式。</p>
+ *
+ * @package: com.kyle.excel.read
+ * @className: ExcelReader
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 17:20
+ */
+public interface ExcelReader {
+    /**
+     * 读取Excel文件
+     *
+     * @param <T>
+     * @param file          Excel文件
+     * @param sheetIndex    读数据的sheet页
+     * @param startRowIndex 数据的起始行,从1开始（其上一行为表头）
+     * @param beanClass     存放数据的Bean类
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)，为空时使用注解
+     * @param rowHandler    行回调
+     */
+    <T extends ExcelBeanValidator> void read(
+            File file,
+            int sheetIndex,
+            int startRowIndex,
+            Class<T> beanClass,
+            Map<String, String> headerMap,
+            ExcelRowHandler<? super T> rowHandler);
+
+    /**
+     * 读取Excel流，流的内容先写入临时文件再以文件方式读取（避免整个文件进入内存），读取完成后关闭流
+     *
+     * @param <T>
+     * @param inputStream   Excel文件流
+     * @param sheetIndex    读数据的sheet页
+     * @param startRowIndex 数据的起始行,从1开始（其上一行为表头）
+     * @param beanClass     存放数据的Bean类
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)，为空时使用注解
+     * @param rowHandler    行回调
+     */
+    default <T extends ExcelBeanValidator> void read(
+            InputStream inputStream,
+            int sheetIndex,
+            int startRowIndex,
+            Class<T> beanClass,
+            Map<String, String> headerMap,
+            ExcelRowHandler<? super T> rowHandler) {
+
+        File tempFile = null;
+        try {
+            tempFile = Files.createTempFile("excelsugar", null).toFile();
+            FileUtil.writeToFile(tempFile, inputStream);
+            read(tempFile, sheetIndex, startRowIndex, beanClass, headerMap, rowHandler);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not create temporary file!", e);
+        } finally {
+            if (tempFile != null && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.kyle.excel.read;
+
+/**
+ * Excel读取的行回调
+ * <p>xls 和 xlsx 的流式读取都通过此接口逐行交付数据，调用者无需关心文件格式。</p>
+ *
+ * @package: com.kyle.excel.read
+ * @className: ExcelRowHandler
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 16:02
+ */
+public interface ExcelRowHandler<T> {
+    /**
+     * 处理一行数据
+     *
+     * @param bean     由当前行转换得到的Bean
+     * @param rowIndex 当前行在sheet中的位置(0开始)
+     */
+    void handle(T bean, int rowIndex);
+}
@@ -0,0 +1,197 @@
+package com.kyle.excel.read;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+
+import com.kyle.excel.exception.ExcelAnalysisException;
+import com.kyle.excel.metadata.ExcelCellProperty;
+import com.kyle.excel.metadata.ExcelColumnMapping;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+/**
+ * 将流式读取得到的行数据转换为Bean
+ * <p>读取器逐个单元格调用 {@link #cell(int, String)}，在行结束时调用 {@link #endRow(int)}。
+ * 表头行用于解析映射（与写入使用相同的 {@link ExcelColumnMapping} 规则），之后的行转换为Bean交给回调。
+ * 行缓冲区在行之间复用，内存占用与行数无关。</p>
+ * <p>数值单元格以原始值文本传入（日期为Excel序列值），由此按Bean属性的类型转换。</p>
+ *
+ * @package: com.kyle.excel.read
+ * @className: ExcelRowMapper
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 16:10
+ */
+class ExcelRowMapper<T> {
+    private final Class<T> beanClass;
+    private final int headerRowIndex;
+    private final Map<String, String> headerMap;
+    private final ExcelRowHandler<? super T> rowHandler;
+    private final Constructor<T> constructor;
+    /**
+     * 转换失败时抛出异常的转换器（默认的ConvertUtils会把无法解析的数值静默转换为0）
+     */
+    private final ConvertUtilsBean convertUtils = new ConvertUtilsBean();
+
+    /**
+     * 当前行的单元格文本，按列索引存放
+     */
+    private String[] values = new String[16];
+    private boolean blankRow = true;
+
+    private int[] columnIndexes;
+    private Field[] fields;
+    private ExcelCellProperty[] cellProperties;
+    private SimpleDateFormat[] dateFormats;
+
+    ExcelRowMapper(final Class<T> beanClass, final int startRowIndex, final Map<String, String> headerMap,
+                   final ExcelRowHandler<? super T> rowHandler) {
+        if (beanClass == null || rowHandler == null) {
+            throw new IllegalArgumentException("beanClass and rowHandler cannot be null.");
+        }
+        this.beanClass = beanClass;
+        this.headerRowIndex = startRowIndex - 1;
+        this.headerMap = headerMap;
+        this.rowHandler = rowHandler;
+        try {
+            this.constructor = beanClass.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new ExcelAnalysisException("Bean '" + beanClass.getName() + "' must have a no-arg constructor", e);
+        }
+        this.convertUtils.register(true, false, 0);
+    }
+
+    /**
+     * 当前行的单元格
+     *
+     * @param columnIndex 列索引(0开始)
+     * @param value       单元格文本
+     */
+    void cell(final int columnIndex, final String value) {
+        if (columnIndex < 0 || value == null || value.isEmpty()) {
+            return;
+        }
+        if (columnIndex >= values.length) {
+            values = Arrays.copyOf(values, Math.max(columnIndex + 1, values.length * 2));
+        }
+        values[columnIndex] = value;
+        blankRow = false;
+    }
+
+    /**
+     * 当前行结束
+     *
+     * @param rowIndex 行索引(0开始)
+     */
+    void endRow(final int rowIndex) {
+        try {
+            if (rowIndex == headerRowIndex) {
+                resolveMapping();
+            } else if (rowIndex > headerRowIndex && fields != null && !blankRow) {
+                T bean = toBean(rowIndex);
+                if (bean != null) {
+                    rowHandler.handle(bean, rowIndex);
+                }
+            }
+        } finally {
+            Arrays.fill(values, null);
+            blankRow = true;
+        }
+    }
+
+    /**
+     * 是否已读到表头
+     *
+     * @return 是否已解析映射
+     */
+    boolean isResolved() {
+        return fields != null;
+    }
+
+    private void resolveMapping() {
+        ExcelColumnMapping mapping = ExcelColumnMapping.resolve(values.clone(), beanClass, headerMap);
+        ExcelCellProperty[] properties = mapping.createCellProperties(null);
+
+        columnIndexes = new int[mapping.size()];
+        fields = new Field[mapping.size()];
+        cellProperties = properties;
+        dateFormats = new SimpleDateFormat[mapping.size()];
+        for (int i = 0; i < mapping.size(); i++) {
+            columnIndexes[i] = mapping.getColumnIndex(i);
+            fields[i] = mapping.getField(i).getField();
+            fields[i].setAccessible(true);
+        }
+    }
+
+    /**
+     * 将当前行转换为Bean，所有已映射的列都为空时返回null
+     */
+    private T toBean(final int rowIndex) {
+        T bean = null;
+        for (int i = 0; i < fields.length; i++) {
+            int columnIndex = columnIndexes[i];
+            String text = columnIndex < values.length ? values[columnIndex] : null;
+            if (text == null) {
+                continue;
+            }
+
+            try {
+                Object value = convert(i, text);
+                if (value == null) {
+                    continue;
+                }
+                if (bean == null) {
+                    bean = constructor.newInstance();
+                }
+                fields[i].set(bean, value);
+            } catch (ExcelAnalysisException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ExcelAnalysisException(String.format("Can not convert cell(row %d, column %d) value '%s' to field '%s'",
+                        rowIndex, columnIndex, text, fields[i].getName()), e);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * 按属性类型转换单元格文本，并去除写入时添加的前后缀
+     */
+    private Object convert(final int i, String text) throws ParseException {
+        ExcelCellProperty excelCellProperty = cellProperties[i];
+        if (!StringUtils.isBlank(excelCellProperty.getPrefix())) {
+            text = StringUtils.removeStart(text, excelCellProperty.getPrefix());
+        }
+        if (!StringUtils.isBlank(excelCellProperty.getSuffix())) {
+            text = StringUtils.removeEnd(text, excelCellProperty.getSuffix());
+        }
+
+        Class<?> type = fields[i].getType();
+        if (type == String.class) {
+            return text;
+        }
+        if (StringUtils.isBlank(text)) {
+            return null;
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            if (NumberUtils.isCreatable(text)) {
+                return DateUtil.getJavaDate(Double.parseDouble(text));
+            }
+            if (dateFormats[i] == null) {
+                String format = !StringUtils.isBlank(excelCellProperty.getDateFormat())
+                        ? excelCellProperty.getDateFormat()
+                        : "MM/dd/yyyy HH:mm:ss";
+                dateFormats[i] = new SimpleDateFormat(format);
+            }
+            return dateFormats[i].parse(text.trim());
+        }
+        return convertUtils.convert(text.trim(), type);
+    }
+}
@@ -0,0 +1,215 @@
+package com.kyle.excel.read;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.kyle.excel.exception.ExcelAnalysisException;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.util.FileUtil;
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.util.NumberToTextConverter;
+
+/**
+ * xls 流式读取
+ * <p>通过 {@link HSSFEventFactory} 逐条处理BIFF记录，不构建HSSFWorkbook。
+ * 读完目标sheet后即停止解析，每行按 {@link com.kyle.excel.annotation.ExcelProperty} 映射为Bean后交给 {@link ExcelRowHandler}。</p>
+ *
+ * @package: com.kyle.excel.read
+ * @className: ExcelXlsReader
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 17:26
+ */
+public class ExcelXlsReader implements ExcelReader {
+
+    @Override
+    public <T extends ExcelBeanValidator> void read(
+            final File file,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Map<String, String> headerMap,
+            final ExcelRowHandler<? super T> rowHandler) {
+
+        if (!FileUtil.isExists(file)) {
+            throw new ExcelAnalysisException("File '" + file + "' does not exist");
+        }
+
+        ExcelRowMapper<T> rowMapper = new ExcelRowMapper<T>(beanClass, startRowIndex, headerMap, rowHandler);
+        RecordHandler recordHandler = new RecordHandler(sheetIndex, rowMapper);
+        // 以只读文件方式打开，避免将整个文件读入内存
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(file, true)) {
+            HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(recordHandler);
+            new HSSFEventFactory().abortableProcessWorkbookEvents(request, fileSystem);
+        } catch (IOException | HSSFUserException e) {
+            throw new ExcelAnalysisException("Can not read file '" + file + "'", e);
+        }
+
+        if (!recordHandler.sheetFound) {
+            throw new ExcelAnalysisException("Sheet index (" + sheetIndex + ") is out of range");
+        }
+    }
+
+    /**
+     * 处理BIFF记录，只将目标sheet中的单元格转交给 {@link ExcelRowMapper}
+     */
+    private static final class RecordHandler extends AbortableHSSFListener {
+        private static final short CONTINUE = 0;
+        private static final short ABORT = 1;
+        /**
+         * FormulaRecord.getCachedResultType() 返回的公式结果类型代码：数值、布尔
+         */
+        private static final int CACHED_RESULT_NUMERIC = 0;
+        private static final int CACHED_RESULT_BOOLEAN = 4;
+
+        private final int sheetIndex;
+        private final ExcelRowMapper<?> rowMapper;
+        private final List<BoundSheetRecord> boundSheets = new ArrayList<BoundSheetRecord>();
+        private BoundSheetRecord[] boundSheetsByBof;
+        private SSTRecord sharedStrings;
+
+        /**
+         * BOF/EOF嵌套深度，嵌入图表等子流也有自己的BOF/EOF
+         */
+        private int depth;
+        /**
+         * 已出现的sheet子流数量
+         */
+        private int sheetCount;
+        private boolean inTargetSheet;
+        private boolean sheetFound;
+        private int currentRow = -1;
+        /**
+         * 字符串公式的结果在随后的StringRecord中
+         */
+        private int pendingStringColumn = -1;
+
+        private RecordHandler(final int sheetIndex, final ExcelRowMapper<?> rowMapper) {
+            this.sheetIndex = sheetIndex;
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public short abortableProcessRecord(Record record) {
+            switch (record.getSid()) {
+                case BoundSheetRecord.sid:
+                    boundSheets.add((BoundSheetRecord) record);
+                    break;
+                case SSTRecord.sid:
+                    sharedStrings = (SSTRecord) record;
+                    break;
+                case BOFRecord.sid:
+                    // 工作簿全局子流之后，深度为0时出现的BOF为sheet子流
+                    if (depth++ == 0 && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK) {
+                        startSheet();
+                    }
+                    break;
+                case EOFRecord.sid:
+                    if (--depth == 0 && inTargetSheet) {
+                        endRow();
+                        return ABORT;
+                    }
+                    break;
+                default:
+                    if (inTargetSheet && (record instanceof CellValueRecordInterface || record.getSid() == StringRecord.sid)) {
+                        processCell(record);
+                    }
+                    break;
+            }
+            return CONTINUE;
+        }
+
+        private void startSheet() {
+            if (boundSheetsByBof == null) {
+                boundSheetsByBof = BoundSheetRecord.orderByBofPosition(boundSheets);
+            }
+            int bofIndex = sheetCount++;
+            inTargetSheet = sheetIndex < boundSheets.size() && bofIndex < boundSheetsByBof.length
+                    && boundSheetsByBof[bofIndex] == boundSheets.get(sheetIndex);
+            sheetFound |= inTargetSheet;
+        }
+
+        private void processCell(final Record record) {
+            if (record.getSid() == StringRecord.sid) {
+                if (pendingStringColumn >= 0) {
+                    rowMapper.cell(pendingStringColumn, ((StringRecord) record).getString());
+                }
+                pendingStringColumn = -1;
+                return;
+            }
+
+            CellValueRecordInterface cellRecord = (CellValueRecordInterface) record;
+            if (cellRecord.getRow() != currentRow) {
+                endRow();
+                currentRow = cellRecord.getRow();
+            }
+
+            int columnIndex = cellRecord.getColumn();
+            switch (record.getSid()) {
+                case LabelSSTRecord.sid:
+                    rowMapper.cell(columnIndex, sharedStrings.getString(((LabelSSTRecord) record).getSSTIndex()).getString());
+                    break;
+                case LabelRecord.sid:
+                    rowMapper.cell(columnIndex, ((LabelRecord) record).getValue());
+                    break;
+                case NumberRecord.sid:
+                    rowMapper.cell(columnIndex, NumberToTextConverter.toText(((NumberRecord) record).getValue()));
+                    break;
+                case BoolErrRecord.sid:
+                    BoolErrRecord boolErrRecord = (BoolErrRecord) record;
+                    if (boolErrRecord.isBoolean()) {
+                        rowMapper.cell(columnIndex, String.valueOf(boolErrRecord.getBooleanValue()));
+                    }
+                    break;
+                case FormulaRecord.sid:
+                    processFormula((FormulaRecord) record, columnIndex);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * 公式单元格读取缓存的计算结果
+         */
+        private void processFormula(final FormulaRecord record, final int columnIndex) {
+            // 字符串结果在随后的StringRecord中
+            if (record.hasCachedResultString()) {
+                pendingStringColumn = columnIndex;
+                return;
+            }
+            int cachedResultType = record.getCachedResultType();
+            if (cachedResultType == CACHED_RESULT_NUMERIC) {
+                rowMapper.cell(columnIndex, NumberToTextConverter.toText(record.getValue()));
+            } else if (cachedResultType == CACHED_RESULT_BOOLEAN) {
+                rowMapper.cell(columnIndex, String.valueOf(record.getCachedBooleanValue()));
+            }
+        }
+
+        private void endRow() {
+            if (currentRow >= 0) {
+                rowMapper.endRow(currentRow);
+                currentRow = -1;
+            }
+        }
+    }
+}
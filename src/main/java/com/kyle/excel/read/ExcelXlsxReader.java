@@ -0,0 +1,142 @@
+package com.kyle.excel.read;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import com.kyle.excel.exception.ExcelAnalysisException;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.util.FileUtil;
+import org.apache.poi.ooxml.util.SAXHelper;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * xlsx 流式读取
+ * <p>通过 {@link XSSFReader} 和 SAX 逐行解析sheet的XML，不构建Workbook，内存占用与行数无关
+ * (共享字符串表除外)。每行按 {@link com.kyle.excel.annotation.ExcelProperty} 映射为Bean后交给 {@link ExcelRowHandler}。</p>
+ *
+ * @package: com.kyle.excel.read
+ * @className: ExcelXlsxReader
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 16:40
+ */
+public class ExcelXlsxReader implements ExcelReader {
+
+    @Override
+    public <T extends ExcelBeanValidator> void read(
+            final File file,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Map<String, String> headerMap,
+            final ExcelRowHandler<? super T> rowHandler) {
+
+        if (!FileUtil.isExists(file)) {
+            throw new ExcelAnalysisException("File '" + file + "' does not exist");
+        }
+
+        ExcelRowMapper<T> rowMapper = new ExcelRowMapper<T>(beanClass, startRowIndex, headerMap, rowHandler);
+        OPCPackage opcPackage = null;
+        try {
+            // 以文件方式打开，避免将整个压缩包读入内存
+            opcPackage = OPCPackage.open(file, PackageAccess.READ);
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            StylesTable styles = xssfReader.getStylesTable();
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            for (int index = 0; sheets.hasNext(); index++) {
+                try (InputStream sheet = sheets.next()) {
+                    if (index != sheetIndex) {
+                        continue;
+                    }
+
+                    XMLReader parser = SAXHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(
+                            styles, null, sharedStrings, new SheetHandler(rowMapper), new RawValueFormatter(), false));
+                    parser.parse(new InputSource(sheet));
+                    return;
+                }
+            }
+            throw new ExcelAnalysisException("Sheet index (" + sheetIndex + ") is out of range");
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new ExcelAnalysisException("Can not read file '" + file + "'", e);
+        } finally {
+            if (opcPackage != null) {
+                // 只读打开的包不能保存，直接还原
+                opcPackage.revert();
+            }
+        }
+    }
+
+    /**
+     * 将SAX事件转交给 {@link ExcelRowMapper}
+     */
+    private static final class SheetHandler implements SheetContentsHandler {
+        private final ExcelRowMapper<?> rowMapper;
+        private int nextColumnIndex;
+
+        private SheetHandler(final ExcelRowMapper<?> rowMapper) {
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            nextColumnIndex = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rowMapper.endRow(rowNum);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int columnIndex = cellReference != null ? columnIndex(cellReference) : nextColumnIndex;
+            nextColumnIndex = columnIndex + 1;
+            rowMapper.cell(columnIndex, formattedValue);
+        }
+
+        /**
+         * 从单元格引用(如 "AB12")中解析列索引(0开始)
+         */
+        private static int columnIndex(final String cellReference) {
+            int columnIndex = 0;
+            for (int i = 0; i < cellReference.length(); i++) {
+                char c = cellReference.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                columnIndex = columnIndex * 26 + (c - 'A' + 1);
+            }
+            return columnIndex - 1;
+        }
+    }
+
+    /**
+     * 数值单元格不按单元格格式格式化，而是返回原始值文本（日期为Excel序列值），由 {@link ExcelRowMapper} 按属性类型转换
+     */
+    private static final class RawValueFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            return NumberToTextConverter.toText(value);
+        }
+    }
+}
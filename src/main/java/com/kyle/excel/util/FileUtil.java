@@ -1,13 +1,22 @@
 package com.kyle.excel.util;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.kyle.excel.exception.ExcelAnalysisException;
 import org.apache.commons.io.FileUtils;
@@ -26,7 +35,38 @@ import org.apache.poi.util.IOUtils;
  * @return 
  */
 public class FileUtil {
-    private static final int WRITE_BUFF_SIZE = 8192;
+    /**
+     * 默认的读写缓冲区大小
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * 流复制、通道输出流使用的缓冲区大小
+     */
+    private static volatile int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * 获取读写缓冲区大小
+     *
+     * @return 字节数
+     */
+    public static int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * 设置读写缓冲区大小，对之后的读写生效
+     *
+     * @param size 字节数
+     */
+    public static void setBufferSize(final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("bufferSize must be greater than 0");
+        }
+        bufferSize = size;
+    }
 
     /**
      * 获取文件名称
@@ -291,19 +331,16 @@ public class FileUtil {
      * @return
      */
     public static String getFileHexString(byte[] buffer) {
-        StringBuilder stringBuilder = new StringBuilder();
         if (buffer == null || buffer.length <= 0) {
             return null;
         }
+        char[] chars = new char[buffer.length * 2];
         for (int i = 0; i < buffer.length; i++) {
             int v = buffer[i] & 0xFF;
-            String hv = Integer.toHexString(v);
-            if (hv.length() < 2) {
-                stringBuilder.append(0);
-            }
-            stringBuilder.append(hv);
+            chars[i * 2] = HEX_DIGITS[v >>> 4];
+            chars[i * 2 + 1] = HEX_DIGITS[v & 0x0F];
         }
-        return stringBuilder.toString();
+        return new String(chars);
     }
 
     /**
@@ -314,12 +351,8 @@ public class FileUtil {
      * @return
      */
     public static File convertInputstreamToFile(InputStream inputStream, File file) {
-        try (OutputStream outputStream = new FileOutputStream(file)) {
-            int bytesRead = 0;
-            byte[] buffer = new byte[8192];
-            while ((bytesRead = inputStream.read(buffer, 0, 8192)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
+        try {
+            copyToFile(inputStream, file, bufferSize);
         } catch (Exception e) {
             throw new RuntimeException(e);
         } finally {
@@ -335,24 +368,11 @@ public class FileUtil {
      * @param inputStream
      */
     public static void writeToFile(File file, InputStream inputStream) {
-        OutputStream outputStream = null;
         try {
-            outputStream = new FileOutputStream(file);
-            int bytesRead;
-            byte[] buffer = new byte[WRITE_BUFF_SIZE];
-            while ((bytesRead = inputStream.read(buffer, 0, WRITE_BUFF_SIZE)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
+            copyToFile(inputStream, file, bufferSize);
         } catch (Exception e) {
             throw new ExcelAnalysisException("Can not create temporary file!", e);
         } finally {
-            if (outputStream != null) {
-                try {
-                    outputStream.close();
-                } catch (IOException e) {
-                    throw new ExcelAnalysisException("Can not close 'outputStream'!", e);
-                }
-            }
             if (inputStream != null) {
                 try {
                     inputStream.close();
@@ -390,15 +410,106 @@ public class FileUtil {
      * @throws IOException
      */
     public static byte[] readFileToByteArray(final File file) throws IOException {
-        InputStream in = openInputStream(file);
-        try {
-            final long fileLength = file.length();
-            return fileLength > 0 ? IOUtils.toByteArray(in, (int)fileLength) : IOUtils.toByteArray(in);
-        } finally {
-            in.close();
+        if (file == null || !isExists(file)) {
+            throw new FileNotFoundException("File '" + file + "' does not exist");
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IOException("File '" + file + "' is too large to read into a byte array: " + size + " bytes");
+            }
+            // 大小未知的特殊文件按流读取
+            if (size == 0) {
+                return IOUtils.toByteArray(Channels.newInputStream(channel));
+            }
+
+            byte[] bytes = new byte[(int) size];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // 读满或到文件末尾为止
+            }
+            return bytes;
         }
     }
 
+    /**
+     * 复制文件，已存在的 target 被覆盖
+     * <p>通过 FileChannel.transferTo 复制，数据不经过堆内存。</p>
+     *
+     * @param source 源文件
+     * @param target 目标文件
+     * @throws IOException
+     */
+    public static void copy(final File source, final File target) throws IOException {
+        if (source == null || !isExists(source)) {
+            throw new FileNotFoundException("File '" + source + "' does not exist");
+        }
+        try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target.toPath(),
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            transfer(in, 0, in.size(), out);
+        }
+    }
+
+    /**
+     * 将输入流写入文件（不会关闭输入流），已存在的文件被覆盖
+     * <p>文件输入流通过 FileChannel.transferTo 复制；其它输入流以 bufferSize 大小的缓冲区写入文件通道。</p>
+     *
+     * @param inputStream 输入流
+     * @param file        目标文件
+     * @param bufferSize  缓冲区大小
+     * @return 写入的字节数
+     * @throws IOException
+     */
+    public static long copyToFile(final InputStream inputStream, final File file, final int bufferSize) throws IOException {
+        if (inputStream == null || file == null) {
+            throw new IllegalArgumentException("inputStream and file cannot be null.");
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be greater than 0");
+        }
+        try (FileChannel out = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // 只有未被包装的文件输入流才能直接取得通道，包装流可能已缓冲了部分数据
+            if (inputStream.getClass() == FileInputStream.class) {
+                FileChannel in = ((FileInputStream) inputStream).getChannel();
+                long position = in.position();
+                long transferred = transfer(in, position, in.size() - position, out);
+                in.position(position + transferred);
+                return transferred;
+            }
+
+            long total = 0;
+            int bytesRead;
+            byte[] buffer = new byte[bufferSize];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            while ((bytesRead = inputStream.read(buffer, 0, bufferSize)) != -1) {
+                byteBuffer.clear().limit(bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    out.write(byteBuffer);
+                }
+                total += bytesRead;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 通过 transferTo 复制通道中的数据，单次调用可能只复制一部分，循环直到复制完成
+     */
+    private static long transfer(final FileChannel in, final long position, final long count,
+                                 final FileChannel out) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long n = in.transferTo(position + transferred, count - transferred, out);
+            if (n <= 0) {
+                break;
+            }
+            transferred += n;
+        }
+        return transferred;
+    }
+
     /**
      * 转换 InputStream 为 outputStream
      *
@@ -407,7 +518,7 @@ public class FileUtil {
      */
     public static void convertInputstreamToOutputStream(InputStream inputStream, OutputStream outputStream) {
         try {
-            IOUtils.copy(inputStream, outputStream, 8192);
+            IOUtils.copy(inputStream, outputStream, bufferSize);
         } catch (IOException e) {
             throw new RuntimeException(e);
         } finally {
@@ -415,4 +526,66 @@ public class FileUtil {
             IOUtils.closeQuietly(inputStream);
         }
     }
+
+    /**
+     * 在目标文件的同一目录下创建临时文件（同一文件系统内才能原子重命名）
+     * <p>不使用Files.createTempFile：其创建的文件权限为0600，重命名后会保留到目标文件上；
+     * 这里按默认umask创建，与直接写目标文件得到的权限一致。</p>
+     *
+     * @param target 目标文件
+     * @return 临时文件
+     * @throws IOException
+     */
+    public static File createTempFileBeside(final File target) throws IOException {
+        File directory = target.getAbsoluteFile().getParentFile();
+        while (true) {
+            File tempFile = new File(directory,
+                    "." + target.getName() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(tempFile.toPath()).toFile();
+            } catch (FileAlreadyExistsException e) {
+                // 随机名冲突，换一个名字重试
+            }
+        }
+    }
+
+    /**
+     * 打开文件的通道输出流
+     * <p>关闭返回的流时先将数据刷入磁盘，再关闭通道，以保证随后的重命名不会暴露未写完的内容。</p>
+     *
+     * @param file 文件
+     * @return 输出流
+     * @throws IOException
+     */
+    public static OutputStream openChannelOutputStream(final File file) throws IOException {
+        final FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new BufferedOutputStream(Channels.newOutputStream(channel), bufferSize) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    flush();
+                    channel.force(false);
+                } finally {
+                    super.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * 将 source 移动为 target，覆盖已存在的 target
+     * <p>优先使用原子重命名，文件系统不支持时退化为普通替换。</p>
+     *
+     * @param source 源文件
+     * @param target 目标文件
+     * @throws IOException
+     */
+    public static void moveAtomically(final File source, final File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 }
@@ -0,0 +1,551 @@
+package com.kyle.excel.write;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.kyle.excel.metadata.ExcelCellStyleDefinition;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.hssf.record.ExtendedFormatRecord;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Color;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+
+/**
+ * 工作簿级别的单元格样式池
+ * <p>模板中的样式是所有单元格共享的，不能直接修改。需要在模板样式基础上改变 数据格式、字体、填充 时，
+ * 从样式池中获取派生样式：每种 (模板样式, 数据格式, 字体, 填充) 组合只创建一次，之后重复使用，
+ * 避免 xls 超出4000个样式的限制以及 xlsx 的 styles.xml 无限增长。样式池中没有的组合先在工作簿已有的样式中查找属性相同的样式，
+ * 因此临时创建的样式池也能复用之前派生的样式。</p>
+ * <p>样式池由创建它的调用者持有（如 {@link ExcelWriter} 每个写入会话持有一个），与工作簿同生命周期，
+ * 不会被静态注册，调用者不再引用时随工作簿一起回收。样式池与Workbook一样不是线程安全的。</p>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelCellStylePool
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 15:10
+ */
+public class ExcelCellStylePool {
+    /**
+     * xls 默认单元格样式的索引
+     */
+    private static final int HSSF_DEFAULT_CELL_STYLE_INDEX = 15;
+
+    private final Workbook workbook;
+    private final Map<StyleKey, CellStyle> styles = new HashMap<StyleKey, CellStyle>();
+    /**
+     * (模板样式, 样式定义) 和 派生样式 的映射，样式定义按JSON缓存，以实例区分
+     */
+    private final Map<DefinitionKey, CellStyle> definitionStyles = new HashMap<DefinitionKey, CellStyle>();
+    private final Map<String, Short> dataFormats = new HashMap<String, Short>();
+    private DataFormat dataFormat;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * 创建工作簿的样式池，同一工作簿的单元格应共用一个样式池，派生样式才能重复使用
+     *
+     * @param workbook 工作簿
+     */
+    public ExcelCellStylePool(final Workbook workbook) {
+        if (workbook == null) {
+            throw new IllegalArgumentException("workbook cannot be null.");
+        }
+        this.workbook = workbook;
+    }
+
+    /**
+     * 获取指定数据格式的样式
+     *
+     * @param baseStyle 模板样式，为null时使用工作簿默认样式
+     * @param format    数据格式，如 "MM/dd/yyyy HH:mm:ss"
+     * @return 派生样式，数据格式与模板样式相同时返回模板样式本身
+     */
+    public CellStyle getStyle(final CellStyle baseStyle, final String format) {
+        CellStyle base = baseStyle != null ? baseStyle : getDefaultStyle();
+        return getStyle(base, getDataFormat(format), base.getFontIndexAsInt(),
+                base.getFillForegroundColor(), base.getFillPattern());
+    }
+
+    /**
+     * 获取指定 数据格式、字体、填充 的样式
+     *
+     * @param baseStyle           模板样式，为null时使用工作簿默认样式
+     * @param dataFormat          数据格式索引
+     * @param fontIndex           字体索引
+     * @param fillForegroundColor 填充颜色索引
+     * @param fillPattern         填充方式
+     * @return 派生样式，与模板样式完全相同时返回模板样式本身
+     */
+    public CellStyle getStyle(final CellStyle baseStyle, final short dataFormat, final int fontIndex,
+                              final short fillForegroundColor, final FillPatternType fillPattern) {
+        Workbook workbook = getWorkbook();
+        CellStyle base = baseStyle != null ? baseStyle : getDefaultStyle();
+
+        // 与模板样式相同，无需派生
+        if (base.getDataFormat() == dataFormat && base.getFontIndexAsInt() == fontIndex
+                && base.getFillForegroundColor() == fillForegroundColor && base.getFillPattern() == fillPattern) {
+            hitCount++;
+            return base;
+        }
+
+        StyleKey key = new StyleKey(base.getIndex(), dataFormat, fontIndex, fillForegroundColor, fillPattern);
+        CellStyle cellStyle = styles.get(key);
+        if (cellStyle == null) {
+            StyleAttributes attributes = StyleAttributes.of(base);
+            attributes.dataFormat = dataFormat;
+            attributes.fontIndex = fontIndex;
+            attributes.setFillForegroundColor(base, fillForegroundColor);
+            attributes.fillPattern = fillPattern;
+            cellStyle = findOrCreateStyle(base, attributes);
+            styles.put(key, cellStyle);
+        } else {
+            hitCount++;
+        }
+        return cellStyle;
+    }
+
+    /**
+     * 获取应用了样式定义的样式
+     *
+     * @param baseStyle  模板样式，为null时使用工作簿默认样式
+     * @param definition 样式定义，见 {@link ExcelCellStyleDefinition#parse(String)}
+     * @return 派生样式，每种 (模板样式, 样式定义) 组合只创建一次
+     */
+    public CellStyle getStyle(final CellStyle baseStyle, final ExcelCellStyleDefinition definition) {
+        Workbook workbook = getWorkbook();
+        CellStyle base = baseStyle != null ? baseStyle : getDefaultStyle();
+        if (definition == null) {
+            return base;
+        }
+
+        DefinitionKey key = new DefinitionKey(base.getIndex(), definition);
+        CellStyle cellStyle = definitionStyles.get(key);
+        if (cellStyle != null) {
+            hitCount++;
+            return cellStyle;
+        }
+
+        StyleAttributes attributes = StyleAttributes.of(base);
+
+        // 数据格式
+        if (!StringUtils.isBlank(definition.getDataFormat())) {
+            attributes.dataFormat = getDataFormat(definition.getDataFormat());
+        }
+
+        // 字体
+        if (definition.hasFont()) {
+            attributes.fontIndex = getFont(workbook, workbook.getFontAt(base.getFontIndexAsInt()), definition).getIndexAsInt();
+        }
+
+        // 填充
+        Short fillForegroundColor = ExcelCellStyleDefinition.toColorIndex(definition.getFillForegroundColor());
+        if (fillForegroundColor != null) {
+            attributes.setFillForegroundColor(base, fillForegroundColor);
+        }
+        if (definition.getFillPattern() != null) {
+            attributes.fillPattern = definition.getFillPattern();
+        } else if (fillForegroundColor != null && base.getFillPattern() == FillPatternType.NO_FILL) {
+            // 只设置了填充颜色时默认为实心填充
+            attributes.fillPattern = FillPatternType.SOLID_FOREGROUND;
+        }
+
+        // 边框
+        if (definition.getBorderTop() != null) {
+            attributes.borderTop = definition.getBorderTop();
+        }
+        if (definition.getBorderBottom() != null) {
+            attributes.borderBottom = definition.getBorderBottom();
+        }
+        if (definition.getBorderLeft() != null) {
+            attributes.borderLeft = definition.getBorderLeft();
+        }
+        if (definition.getBorderRight() != null) {
+            attributes.borderRight = definition.getBorderRight();
+        }
+        Short borderColor = ExcelCellStyleDefinition.toColorIndex(definition.getBorderColor());
+        if (borderColor != null) {
+            attributes.setBorderColor(borderColor);
+        }
+
+        // 对齐
+        if (definition.getHorizontalAlignment() != null) {
+            attributes.alignment = definition.getHorizontalAlignment();
+        }
+        if (definition.getVerticalAlignment() != null) {
+            attributes.verticalAlignment = definition.getVerticalAlignment();
+        }
+        if (definition.getWrapText() != null) {
+            attributes.wrapText = definition.getWrapText();
+        }
+
+        if (attributes.matches(base)) {
+            hitCount++;
+            cellStyle = base;
+        } else {
+            cellStyle = findOrCreateStyle(base, attributes);
+        }
+        definitionStyles.put(key, cellStyle);
+        return cellStyle;
+    }
+
+    /**
+     * 获取工作簿中属性相同的样式，没有时在模板样式的基础上创建
+     * <p>派生样式总是在模板样式之后创建，因此从后向前只查找模板样式之后的样式。先查找工作簿已有的样式，
+     * 不同的样式池（如每次调用新建的样式池）也能复用之前派生的样式，工作簿的样式数量不随调用次数增长。</p>
+     */
+    private CellStyle findOrCreateStyle(final CellStyle base, final StyleAttributes attributes) {
+        Workbook workbook = getWorkbook();
+        int baseIndex = Short.toUnsignedInt(base.getIndex());
+        for (int index = workbook.getNumCellStyles() - 1; index > baseIndex; index--) {
+            if (isCellStyle(workbook, index)) {
+                CellStyle cellStyle = workbook.getCellStyleAt(index);
+                if (attributes.matches(cellStyle)) {
+                    hitCount++;
+                    return cellStyle;
+                }
+            }
+        }
+
+        missCount++;
+        CellStyle cellStyle = workbook.createCellStyle();
+        cellStyle.cloneStyleFrom(base);
+        attributes.applyTo(cellStyle, base, workbook);
+        return cellStyle;
+    }
+
+    /**
+     * 工作簿默认的单元格样式（没有设置样式的单元格使用的样式）
+     * <p>xls 的前15个样式记录是命名样式，第16个（索引15）才是默认的单元格样式。</p>
+     */
+    private CellStyle getDefaultStyle() {
+        Workbook workbook = getWorkbook();
+        return workbook.getCellStyleAt(workbook instanceof HSSFWorkbook ? HSSF_DEFAULT_CELL_STYLE_INDEX : 0);
+    }
+
+    /**
+     * xls 的样式表中还有单元格不能使用的命名样式记录，只有单元格样式记录可以复用
+     */
+    private static boolean isCellStyle(final Workbook workbook, final int index) {
+        return !(workbook instanceof HSSFWorkbook) || ((HSSFWorkbook) workbook).getInternalWorkbook()
+                .getExFormatAt(index).getXFType() == ExtendedFormatRecord.XF_CELL;
+    }
+
+    /**
+     * 获取在模板字体上应用了样式定义的字体，工作簿中已有相同字体时直接使用
+     */
+    private static Font getFont(final Workbook workbook, final Font base, final ExcelCellStyleDefinition definition) {
+        boolean bold = definition.getBold() != null ? definition.getBold() : base.getBold();
+        Short fontColor = ExcelCellStyleDefinition.toColorIndex(definition.getFontColor());
+        short color = fontColor != null ? fontColor : base.getColor();
+        short fontHeight = definition.getFontHeightInPoints() != null
+                ? (short) (definition.getFontHeightInPoints() * 20) : base.getFontHeight();
+        String name = definition.getFontName() != null ? definition.getFontName() : base.getFontName();
+        boolean italic = definition.getItalic() != null ? definition.getItalic() : base.getItalic();
+        boolean strikeout = definition.getStrikeout() != null ? definition.getStrikeout() : base.getStrikeout();
+        byte underline = definition.getUnderline() != null
+                ? (definition.getUnderline() ? Font.U_SINGLE : Font.U_NONE) : base.getUnderline();
+
+        Font font = workbook.findFont(bold, color, fontHeight, name, italic, strikeout, base.getTypeOffset(), underline);
+        if (font == null) {
+            font = workbook.createFont();
+            font.setBold(bold);
+            font.setColor(color);
+            font.setFontHeight(fontHeight);
+            font.setFontName(name);
+            font.setItalic(italic);
+            font.setStrikeout(strikeout);
+            font.setTypeOffset(base.getTypeOffset());
+            font.setUnderline(underline);
+        }
+        return font;
+    }
+
+    /**
+     * 获取数据格式索引，每种格式只向工作簿注册一次
+     *
+     * @param format 数据格式
+     * @return 数据格式索引
+     */
+    public short getDataFormat(final String format) {
+        Short index = dataFormats.get(format);
+        if (index == null) {
+            if (dataFormat == null) {
+                dataFormat = getWorkbook().createDataFormat();
+            }
+            index = dataFormat.getFormat(format);
+            dataFormats.put(format, index);
+        }
+        return index;
+    }
+
+    private Workbook getWorkbook() {
+        return workbook;
+    }
+
+    /**
+     * 命中次数（包括直接使用模板样式的次数）
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 未命中次数，即新创建的样式数量
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 样式池中的派生样式数量
+     *
+     * @return 派生样式数量
+     */
+    public int size() {
+        return styles.size() + definitionStyles.size();
+    }
+
+    /**
+     * 样式的全部属性，用于在工作簿中查找相同的样式
+     * <p>xlsx 的颜色可以是RGB，颜色索引相同不代表颜色相同，因此沿用模板样式的颜色时还比较颜色本身。</p>
+     */
+    private static final class StyleAttributes {
+        private short dataFormat;
+        private int fontIndex;
+        private short fillForegroundColor;
+        private Color fillForegroundColorColor;
+        private short fillBackgroundColor;
+        private Color fillBackgroundColorColor;
+        private FillPatternType fillPattern;
+        private BorderStyle borderTop;
+        private BorderStyle borderBottom;
+        private BorderStyle borderLeft;
+        private BorderStyle borderRight;
+        private short topBorderColor;
+        private short bottomBorderColor;
+        private short leftBorderColor;
+        private short rightBorderColor;
+        /**
+         * xlsx 沿用模板样式的边框颜色（上、下、左、右），设置了边框颜色索引时为null
+         */
+        private XSSFColor[] borderColors;
+        private HorizontalAlignment alignment;
+        private VerticalAlignment verticalAlignment;
+        private boolean wrapText;
+        private short indention;
+        private short rotation;
+        private boolean locked;
+        private boolean hidden;
+        private boolean shrinkToFit;
+        private boolean quotePrefixed;
+
+        private static StyleAttributes of(final CellStyle style) {
+            StyleAttributes attributes = new StyleAttributes();
+            attributes.dataFormat = style.getDataFormat();
+            attributes.fontIndex = style.getFontIndexAsInt();
+            attributes.fillForegroundColor = style.getFillForegroundColor();
+            attributes.fillBackgroundColor = style.getFillBackgroundColor();
+            attributes.fillPattern = style.getFillPattern();
+            attributes.borderTop = style.getBorderTop();
+            attributes.borderBottom = style.getBorderBottom();
+            attributes.borderLeft = style.getBorderLeft();
+            attributes.borderRight = style.getBorderRight();
+            attributes.topBorderColor = style.getTopBorderColor();
+            attributes.bottomBorderColor = style.getBottomBorderColor();
+            attributes.leftBorderColor = style.getLeftBorderColor();
+            attributes.rightBorderColor = style.getRightBorderColor();
+            attributes.alignment = style.getAlignment();
+            attributes.verticalAlignment = style.getVerticalAlignment();
+            attributes.wrapText = style.getWrapText();
+            attributes.indention = style.getIndention();
+            attributes.rotation = style.getRotation();
+            attributes.locked = style.getLocked();
+            attributes.hidden = style.getHidden();
+            attributes.shrinkToFit = style.getShrinkToFit();
+            attributes.quotePrefixed = style.getQuotePrefixed();
+            if (style instanceof XSSFCellStyle) {
+                XSSFCellStyle xssfStyle = (XSSFCellStyle) style;
+                attributes.fillForegroundColorColor = xssfStyle.getFillForegroundColorColor();
+                attributes.fillBackgroundColorColor = xssfStyle.getFillBackgroundColorColor();
+                attributes.borderColors = new XSSFColor[]{xssfStyle.getTopBorderXSSFColor(), xssfStyle.getBottomBorderXSSFColor(),
+                        xssfStyle.getLeftBorderXSSFColor(), xssfStyle.getRightBorderXSSFColor()};
+            }
+            return attributes;
+        }
+
+        private void setFillForegroundColor(final CellStyle base, final short color) {
+            if (color != base.getFillForegroundColor()) {
+                fillForegroundColor = color;
+                fillForegroundColorColor = null;
+            }
+        }
+
+        private void setBorderColor(final short color) {
+            topBorderColor = color;
+            bottomBorderColor = color;
+            leftBorderColor = color;
+            rightBorderColor = color;
+            borderColors = null;
+        }
+
+        private boolean matches(final CellStyle style) {
+            if (style.getDataFormat() != dataFormat || style.getFontIndexAsInt() != fontIndex
+                    || style.getFillForegroundColor() != fillForegroundColor
+                    || style.getFillBackgroundColor() != fillBackgroundColor || style.getFillPattern() != fillPattern
+                    || style.getBorderTop() != borderTop || style.getBorderBottom() != borderBottom
+                    || style.getBorderLeft() != borderLeft || style.getBorderRight() != borderRight
+                    || style.getTopBorderColor() != topBorderColor || style.getBottomBorderColor() != bottomBorderColor
+                    || style.getLeftBorderColor() != leftBorderColor || style.getRightBorderColor() != rightBorderColor
+                    || style.getAlignment() != alignment || style.getVerticalAlignment() != verticalAlignment
+                    || style.getWrapText() != wrapText || style.getIndention() != indention
+                    || style.getRotation() != rotation || style.getLocked() != locked || style.getHidden() != hidden
+                    || style.getShrinkToFit() != shrinkToFit || style.getQuotePrefixed() != quotePrefixed) {
+                return false;
+            }
+            if (!(style instanceof XSSFCellStyle)) {
+                return true;
+            }
+
+            XSSFCellStyle xssfStyle = (XSSFCellStyle) style;
+            if (fillForegroundColorColor != null && !fillForegroundColorColor.equals(xssfStyle.getFillForegroundColorColor())) {
+                return false;
+            }
+            if (fillBackgroundColorColor != null && !fillBackgroundColorColor.equals(xssfStyle.getFillBackgroundColorColor())) {
+                return false;
+            }
+            return borderColors == null || Arrays.equals(borderColors, new XSSFColor[]{xssfStyle.getTopBorderXSSFColor(),
+                    xssfStyle.getBottomBorderXSSFColor(), xssfStyle.getLeftBorderXSSFColor(), xssfStyle.getRightBorderXSSFColor()});
+        }
+
+        /**
+         * 将与模板样式不同的属性设置到复制了模板样式的新样式上
+         */
+        private void applyTo(final CellStyle cellStyle, final CellStyle base, final Workbook workbook) {
+            if (dataFormat != base.getDataFormat()) {
+                cellStyle.setDataFormat(dataFormat);
+            }
+            if (fontIndex != base.getFontIndexAsInt()) {
+                cellStyle.setFont(workbook.getFontAt(fontIndex));
+            }
+            if (fillForegroundColorColor == null && fillForegroundColor != base.getFillForegroundColor()) {
+                cellStyle.setFillForegroundColor(fillForegroundColor);
+            }
+            if (fillPattern != base.getFillPattern()) {
+                cellStyle.setFillPattern(fillPattern);
+            }
+            if (borderTop != base.getBorderTop()) {
+                cellStyle.setBorderTop(borderTop);
+            }
+            if (borderBottom != base.getBorderBottom()) {
+                cellStyle.setBorderBottom(borderBottom);
+            }
+            if (borderLeft != base.getBorderLeft()) {
+                cellStyle.setBorderLeft(borderLeft);
+            }
+            if (borderRight != base.getBorderRight()) {
+                cellStyle.setBorderRight(borderRight);
+            }
+            if (borderColors == null) {
+                cellStyle.setTopBorderColor(topBorderColor);
+                cellStyle.setBottomBorderColor(bottomBorderColor);
+                cellStyle.setLeftBorderColor(leftBorderColor);
+                cellStyle.setRightBorderColor(rightBorderColor);
+            }
+            if (alignment != base.getAlignment()) {
+                cellStyle.setAlignment(alignment);
+            }
+            if (verticalAlignment != base.getVerticalAlignment()) {
+                cellStyle.setVerticalAlignment(verticalAlignment);
+            }
+            if (wrapText != base.getWrapText()) {
+                cellStyle.setWrapText(wrapText);
+            }
+        }
+    }
+
+    /**
+     * 样式定义派生样式的键：模板样式、样式定义
+     */
+    private static final class DefinitionKey {
+        private final short baseIndex;
+        private final ExcelCellStyleDefinition definition;
+
+        private DefinitionKey(final short baseIndex, final ExcelCellStyleDefinition definition) {
+            this.baseIndex = baseIndex;
+            this.definition = definition;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DefinitionKey)) {
+                return false;
+            }
+            DefinitionKey that = (DefinitionKey) o;
+            return baseIndex == that.baseIndex && definition == that.definition;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * baseIndex + System.identityHashCode(definition);
+        }
+    }
+
+    /**
+     * 派生样式的键：模板样式、数据格式、字体、填充
+     */
+    private static final class StyleKey {
+        private final short baseIndex;
+        private final short dataFormat;
+        private final int fontIndex;
+        private final short fillForegroundColor;
+        private final FillPatternType fillPattern;
+
+        private StyleKey(final short baseIndex, final short dataFormat, final int fontIndex,
+                         final short fillForegroundColor, final FillPatternType fillPattern) {
+            this.baseIndex = baseIndex;
+            this.dataFormat = dataFormat;
+            this.fontIndex = fontIndex;
+            this.fillForegroundColor = fillForegroundColor;
+            this.fillPattern = fillPattern;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StyleKey)) {
+                return false;
+            }
+            StyleKey that = (StyleKey) o;
+            return baseIndex == that.baseIndex
+                    && dataFormat == that.dataFormat
+                    && fontIndex == that.fontIndex
+                    && fillForegroundColor == that.fillForegroundColor
+                    && fillPattern == that.fillPattern;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(baseIndex, dataFormat, fontIndex, fillForegroundColor, fillPattern);
+        }
+    }
+}
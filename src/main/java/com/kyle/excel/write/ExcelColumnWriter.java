@@ -0,0 +1,219 @@
+package com.kyle.excel.write;
+
+import java.util.Date;
+
+import com.kyle.excel.ExcelSugar;
+import com.kyle.excel.metadata.ExcelCellProperty;
+import com.kyle.excel.metadata.ExcelFieldAccessor;
+import com.kyle.excel.metadata.ExcelFieldMetadata;
+import com.kyle.excel.metadata.ExcelNumericFieldAccessor;
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.Cell;
+
+/**
+ * 单列的写入策略
+ * <p>解析映射时按属性类型确定一次：没有前后缀的 short/int/long/float/double 属性直接以 double 写入单元格，
+ * 读取和写入都不装箱，也不经过 {@link ExcelSugar#setCellValue} 的类型判断；其余属性仍由 setCellValue 处理。</p>
+ * <p>并行转换时，{@link #read} 在转换线程中完成前后缀拼接和 ConvertUtils 转换，写入线程只需设置单元格的值和样式。</p>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelColumnWriter
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 21:50
+ */
+abstract class ExcelColumnWriter {
+    /**
+     * 估算的单个单元格在文件中占用的字节数（不含字符串内容），近似于 xlsx 中一个单元格的XML
+     */
+    static final int CELL_BYTES = 32;
+
+    /**
+     * 已设置列索引和样式的列属性
+     */
+    final ExcelCellProperty cellProperty;
+
+    private ExcelColumnWriter(final ExcelCellProperty cellProperty) {
+        this.cellProperty = cellProperty;
+    }
+
+    /**
+     * 按属性类型创建列的写入策略，须在写入线程中调用
+     *
+     * @param field        属性元数据
+     * @param cellProperty 已设置列索引和样式的列属性
+     * @return 写入策略
+     */
+    static ExcelColumnWriter of(final ExcelFieldMetadata field, final ExcelCellProperty cellProperty) {
+        ExcelNumericFieldAccessor numericAccessor = field.getNumericAccessor();
+        // 有前后缀时值以String写入
+        if (numericAccessor != null && StringUtils.isBlank(cellProperty.getPrefix())
+                && StringUtils.isBlank(cellProperty.getSuffix())) {
+            return new NumericColumnWriter(cellProperty, numericAccessor);
+        }
+        // ConvertUtils 的转换器按线程上下文类加载器注册，在写入线程中取得，转换线程中使用同一组转换器
+        return new ObjectColumnWriter(cellProperty, field.getAccessor(), BeanUtilsBean.getInstance().getConvertUtils());
+    }
+
+    /**
+     * 是否为数值列，数值列的值保存在 {@link RowValues#numbers} 中
+     *
+     * @return 是否为数值列
+     */
+    abstract boolean isNumeric();
+
+    /**
+     * 读取Bean的属性值并直接写入单元格
+     *
+     * @param cell          单元格
+     * @param bean          存放数据的Bean
+     * @param cellStylePool 单元格所在工作簿的样式池
+     * @return 估算的单元格字节数
+     */
+    abstract int write(Cell cell, Object bean, ExcelCellStylePool cellStylePool);
+
+    /**
+     * 读取Bean的属性值到行中，不访问Workbook，可以在任意线程中执行
+     *
+     * @param bean   存放数据的Bean
+     * @param row    行的值
+     * @param column 列在映射中的顺序
+     */
+    abstract void read(Object bean, RowValues row, int column);
+
+    /**
+     * 将已读取的值写入单元格
+     *
+     * @param cell          单元格
+     * @param row           行的值
+     * @param column        列在映射中的顺序
+     * @param cellStylePool 单元格所在工作簿的样式池
+     * @return 估算的单元格字节数
+     */
+    abstract int write(Cell cell, RowValues row, int column, ExcelCellStylePool cellStylePool);
+
+    /**
+     * 估算单元格的字节数，只计入字符串的长度，不为估算转换其它类型的值
+     */
+    static int estimateBytes(final Object value) {
+        return value instanceof CharSequence ? CELL_BYTES + ((CharSequence) value).length() : CELL_BYTES;
+    }
+
+    /**
+     * 一行已读取的值：数值列保存在 numbers 中，其余列保存在 values 中
+     */
+    static final class RowValues {
+        final Object[] values;
+        final double[] numbers;
+
+        RowValues(final int columns, final boolean hasNumeric) {
+            this.values = new Object[columns];
+            this.numbers = hasNumeric ? new double[columns] : null;
+        }
+    }
+
+    private static final class NumericColumnWriter extends ExcelColumnWriter {
+        private final ExcelNumericFieldAccessor accessor;
+
+        private NumericColumnWriter(final ExcelCellProperty cellProperty, final ExcelNumericFieldAccessor accessor) {
+            super(cellProperty);
+            this.accessor = accessor;
+        }
+
+        @Override
+        boolean isNumeric() {
+            return true;
+        }
+
+        @Override
+        int write(final Cell cell, final Object bean, final ExcelCellStylePool cellStylePool) {
+            setCellValue(cell, accessor.getDouble(bean));
+            return CELL_BYTES;
+        }
+
+        @Override
+        void read(final Object bean, final RowValues row, final int column) {
+            row.numbers[column] = accessor.getDouble(bean);
+        }
+
+        @Override
+        int write(final Cell cell, final RowValues row, final int column, final ExcelCellStylePool cellStylePool) {
+            setCellValue(cell, row.numbers[column]);
+            return CELL_BYTES;
+        }
+
+        private void setCellValue(final Cell cell, final double value) {
+            cell.setCellValue(value);
+            if (cellProperty.getCellStyle() != null) {
+                cell.setCellStyle(cellProperty.getCellStyle());
+            }
+        }
+    }
+
+    private static final class ObjectColumnWriter extends ExcelColumnWriter {
+        private final ExcelFieldAccessor accessor;
+        private final ConvertUtilsBean convertUtils;
+        private final String prefix;
+        private final String suffix;
+
+        private ObjectColumnWriter(final ExcelCellProperty cellProperty, final ExcelFieldAccessor accessor,
+                                   final ConvertUtilsBean convertUtils) {
+            super(cellProperty);
+            this.accessor = accessor;
+            this.convertUtils = convertUtils;
+            boolean affixed = !StringUtils.isBlank(cellProperty.getPrefix()) || !StringUtils.isBlank(cellProperty.getSuffix());
+            this.prefix = affixed ? StringUtils.defaultIfBlank(cellProperty.getPrefix(), "") : null;
+            this.suffix = affixed ? StringUtils.defaultIfBlank(cellProperty.getSuffix(), "") : null;
+        }
+
+        @Override
+        boolean isNumeric() {
+            return false;
+        }
+
+        @Override
+        int write(final Cell cell, final Object bean, final ExcelCellStylePool cellStylePool) {
+            Object value = accessor.get(bean);
+            ExcelSugar.setCellValue(cell, value, cellProperty, cellStylePool);
+            return estimateBytes(value);
+        }
+
+        @Override
+        void read(final Object bean, final RowValues row, final int column) {
+            row.values[column] = prepare(accessor.get(bean));
+        }
+
+        @Override
+        int write(final Cell cell, final RowValues row, final int column, final ExcelCellStylePool cellStylePool) {
+            Object value = row.values[column];
+            if (value instanceof String) {
+                cell.setCellValue((String) value);
+                if (cellProperty.getCellStyle() != null) {
+                    cell.setCellStyle(cellProperty.getCellStyle());
+                }
+            } else {
+                ExcelSugar.setCellValue(cell, value, cellProperty, cellStylePool);
+            }
+            return estimateBytes(value);
+        }
+
+        /**
+         * 按 {@link ExcelSugar#setCellValue} 的规则预先转换值：需要加前后缀的值和其它类型的值转换为String，
+         * 数值、布尔和时间保留原值，由写入线程按类型写入
+         */
+        private Object prepare(final Object value) {
+            if (prefix != null) {
+                return prefix + (value != null ? value : "") + suffix;
+            }
+            if (value == null) {
+                return "";
+            }
+            if (value instanceof Short || value instanceof Integer || value instanceof Long || value instanceof Float
+                    || value instanceof Double || value instanceof Boolean || value instanceof Date) {
+                return value;
+            }
+            return convertUtils.convert(value);
+        }
+    }
+}
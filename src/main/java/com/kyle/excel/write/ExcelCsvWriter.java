@@ -0,0 +1,491 @@
+package com.kyle.excel.write;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.kyle.excel.enums.ExcelTypeEnum;
+import com.kyle.excel.metadata.ExcelBeanMetadata;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.metadata.ExcelCellProperty;
+import com.kyle.excel.metadata.ExcelColumnMapping;
+import com.kyle.excel.metadata.ExcelFieldAccessor;
+import com.kyle.excel.metadata.ExcelFieldMetadata;
+import com.kyle.excel.metadata.ExcelNumericFieldAccessor;
+import org.apache.commons.beanutils.ConvertUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * CSV/TSV写入会话
+ * <p>不需要模板，也不创建任何POI对象：列头和列顺序来自 {@link com.kyle.excel.annotation.ExcelProperty} 注解
+ * （或调用者指定的headerMap），前缀、后缀、时间格式与Excel导出一致。每行在内存中拼接后编码到缓冲区，缓冲区满时写入NIO通道。</p>
+ * <p>列顺序：指定headerMap时按headerMap的顺序；注解中指定了列索引时按列索引；否则按属性的声明顺序。</p>
+ * <p>CSV 按 RFC 4180 对包含逗号、双引号、换行的值加双引号；TSV 没有转义规则，值中的制表符和换行替换为空格。</p>
+ * <p>实例不是线程安全的。</p>
+ *
+ * <pre>
+ * try (ExcelCsvWriter writer = new ExcelCsvWriter(Paths.get("/exports/person.csv"), ExcelTypeEnum.CSV)) {
+ *     writer.write(Person.class, personDao.stream(), null);
+ * }
+ * </pre>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelCsvWriter
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 00:20
+ */
+public class ExcelCsvWriter implements Closeable {
+    /**
+     * 编码缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * 与 setCellValue 一致的默认时间格式
+     */
+    private static final String DEFAULT_DATE_FORMAT = "MM/dd/yyyy HH:mm:ss";
+
+    private final WritableByteChannel channel;
+    private final boolean closeChannel;
+    private final ExcelTypeEnum type;
+    private final char delimiter;
+    private final String lineSeparator;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final StringBuilder line = new StringBuilder(256);
+    private long rowsWritten;
+    private boolean closed;
+
+    /**
+     * 创建写入会话，以UTF-8编码写入通道（不会关闭通道）
+     *
+     * @param channel 目标通道
+     * @param type    {@link ExcelTypeEnum#CSV} 或 {@link ExcelTypeEnum#TSV}
+     */
+    public ExcelCsvWriter(final WritableByteChannel channel, final ExcelTypeEnum type) {
+        this(channel, false, type, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 创建写入会话，写入输出流（不会关闭输出流）
+     *
+     * @param outputStream 目标流
+     * @param type         {@link ExcelTypeEnum#CSV} 或 {@link ExcelTypeEnum#TSV}
+     * @param charset      字符集
+     */
+    public ExcelCsvWriter(final OutputStream outputStream, final ExcelTypeEnum type, final Charset charset) {
+        this(Channels.newChannel(outputStream), false, type, charset);
+    }
+
+    /**
+     * 创建写入会话，以UTF-8编码写入文件，文件已存在时覆盖
+     *
+     * @param path 目标文件
+     * @param type {@link ExcelTypeEnum#CSV} 或 {@link ExcelTypeEnum#TSV}
+     * @throws IOException 打开文件失败
+     */
+    public ExcelCsvWriter(final Path path, final ExcelTypeEnum type) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING),
+                true, type, StandardCharsets.UTF_8);
+    }
+
+    private ExcelCsvWriter(final WritableByteChannel channel, final boolean closeChannel,
+                           final ExcelTypeEnum type, final Charset charset) {
+        if (channel == null || charset == null) {
+            throw new IllegalArgumentException("channel and charset cannot be null.");
+        }
+        if (type == ExcelTypeEnum.CSV) {
+            this.delimiter = ',';
+            this.lineSeparator = "\r\n";
+        } else if (type == ExcelTypeEnum.TSV) {
+            this.delimiter = '\t';
+            this.lineSeparator = "\n";
+        } else {
+            throw new IllegalArgumentException(String.format("Type has to be %s/%s", ExcelTypeEnum.CSV, ExcelTypeEnum.TSV));
+        }
+        this.channel = channel;
+        this.closeChannel = closeChannel;
+        this.type = type;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * 写入字节顺序标记（BOM），使Excel能正确识别UTF-8编码的CSV，须在写入数据前调用
+     *
+     * @return 当前写入会话
+     */
+    public ExcelCsvWriter writeBom() {
+        line.append('\uFEFF');
+        flushLine();
+        return this;
+    }
+
+    /**
+     * 写入列头行和数据
+     *
+     * @param <T>
+     * @param datas     待写入数据
+     * @param headerMap T的属性Name 和 列头标题 映射集合 (K:T的属性,V:列头标题)，为空时使用注解
+     * @return 当前写入会话
+     */
+    public <T extends ExcelBeanValidator> ExcelCsvWriter write(final List<T> datas, final Map<String, String> headerMap) {
+        if (datas == null || datas.size() < 1) {
+            throw new IllegalArgumentException("datas cannot be null.");
+        }
+        return write(datas.get(0).getClass(), datas.iterator(), headerMap, true);
+    }
+
+    /**
+     * 写入列头行和Stream中的数据（不会关闭Stream）
+     *
+     * @param <T>
+     * @param beanClass 待写入数据的Bean类
+     * @param datas     待写入数据
+     * @param headerMap T的属性Name 和 列头标题 映射集合 (K:T的属性,V:列头标题)，为空时使用注解
+     * @return 当前写入会话
+     */
+    public <T extends ExcelBeanValidator> ExcelCsvWriter write(final Class<T> beanClass, final Stream<? extends T> datas,
+                                                               final Map<String, String> headerMap) {
+        if (datas == null) {
+            throw new IllegalArgumentException("datas cannot be null.");
+        }
+        return write(beanClass, datas.iterator(), headerMap);
+    }
+
+    /**
+     * 写入列头行和迭代器中的数据，数据逐行读取、逐行写入
+     *
+     * @param <T>
+     * @param beanClass 待写入数据的Bean类
+     * @param datas     待写入数据
+     * @param headerMap T的属性Name 和 列头标题 映射集合 (K:T的属性,V:列头标题)，为空时使用注解
+     * @return 当前写入会话
+     */
+    public <T extends ExcelBeanValidator> ExcelCsvWriter write(final Class<T> beanClass, final Iterator<? extends T> datas,
+                                                               final Map<String, String> headerMap) {
+        return write(beanClass, datas, headerMap, true);
+    }
+
+    /**
+     * 写入迭代器中的数据
+     *
+     * @param <T>
+     * @param beanClass   待写入数据的Bean类
+     * @param datas       待写入数据
+     * @param headerMap   T的属性Name 和 列头标题 映射集合 (K:T的属性,V:列头标题)，为空时使用注解
+     * @param writeHeader 是否先写入列头行
+     * @return 当前写入会话
+     */
+    public ExcelCsvWriter write(final Class<?> beanClass, final Iterator<?> datas,
+                                final Map<String, String> headerMap, final boolean writeHeader) {
+        if (beanClass == null || datas == null) {
+            throw new IllegalArgumentException("beanClass and datas cannot be null.");
+        }
+
+        Column[] columns = resolveColumns(beanClass, headerMap);
+        if (writeHeader) {
+            int columnIndex = 0;
+            for (Column column : columns) {
+                columnIndex = appendDelimiters(columnIndex, column.index);
+                appendText(column.header);
+            }
+            endLine();
+        }
+
+        while (datas.hasNext()) {
+            Object data = datas.next();
+            if (data == null) continue;
+
+            int columnIndex = 0;
+            for (Column column : columns) {
+                columnIndex = appendDelimiters(columnIndex, column.index);
+                column.append(this, data);
+            }
+            endLine();
+            rowsWritten++;
+        }
+
+        return this;
+    }
+
+    /**
+     * 解析列：映射规则与Excel导出一致，列头标题来自headerMap或注解
+     */
+    private static Column[] resolveColumns(final Class<?> beanClass, final Map<String, String> headerMap) {
+        ExcelBeanMetadata beanMetadata = ExcelBeanMetadata.of(beanClass);
+        String[] headers;
+        if (headerMap != null && headerMap.size() > 0) {
+            headers = headerMap.values().toArray(new String[0]);
+        } else if (beanMetadata.isIndexed()) {
+            headers = new String[0];
+        } else {
+            List<String> names = new ArrayList<String>();
+            for (ExcelFieldMetadata field : beanMetadata.getAnnotatedFields()) {
+                names.add(field.getHeaderName());
+            }
+            headers = names.toArray(new String[0]);
+        }
+
+        ExcelColumnMapping mapping = ExcelColumnMapping.resolve(headers, beanClass, headerMap);
+        Column[] columns = new Column[mapping.size()];
+        for (int i = 0; i < columns.length; i++) {
+            int columnIndex = mapping.getColumnIndex(i);
+            String header = columnIndex < headers.length ? headers[columnIndex] : mapping.getField(i).getHeaderName();
+            columns[i] = new Column(mapping.getField(i), mapping.getCellProperty(i), StringUtils.trimToEmpty(header));
+        }
+        Arrays.sort(columns, Comparator.comparingInt(column -> column.index));
+        return columns;
+    }
+
+    /**
+     * 追加分隔符，直到到达指定列（中间没有映射的列留空）
+     *
+     * @return 到达的列索引
+     */
+    private int appendDelimiters(final int columnIndex, final int targetIndex) {
+        for (int i = columnIndex; i < targetIndex; i++) {
+            line.append(delimiter);
+        }
+        return targetIndex;
+    }
+
+    /**
+     * 追加文本值，按文件类型转义
+     */
+    private void appendText(final CharSequence text) {
+        int length = text.length();
+        if (type == ExcelTypeEnum.TSV) {
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                line.append(c == '\t' || c == '\r' || c == '\n' ? ' ' : c);
+            }
+            return;
+        }
+
+        boolean quote = false;
+        for (int i = 0; i < length && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == delimiter || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    /**
+     * 追加浮点数，不使用科学计数法，整数值不带小数部分（如 1.0E15 输出为 1000000000000000，1.0E-5 输出为 0.00001）
+     */
+    private void appendNumber(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            line.append(value);
+            return;
+        }
+        appendDecimal(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * 追加float，按float的最短十进制表示输出（0.1f 输出为 0.1 而不是 0.10000000149011612）
+     */
+    private void appendNumber(final float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            line.append(value);
+            return;
+        }
+        appendDecimal(new BigDecimal(Float.toString(value)));
+    }
+
+    private void appendDecimal(final BigDecimal decimal) {
+        if (decimal.signum() == 0) {
+            line.append('0');
+        } else {
+            line.append(decimal.stripTrailingZeros().toPlainString());
+        }
+    }
+
+    private void endLine() {
+        line.append(lineSeparator);
+        flushLine();
+    }
+
+    /**
+     * 将当前行编码到缓冲区，缓冲区满时写入通道
+     */
+    private void flushLine() {
+        CharBuffer chars = CharBuffer.wrap(line);
+        try {
+            while (true) {
+                CoderResult result = encoder.encode(chars, byteBuffer, false);
+                if (result.isOverflow()) {
+                    drain();
+                } else {
+                    if (result.isError()) {
+                        result.throwException();
+                    }
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        line.setLength(0);
+    }
+
+    /**
+     * 将缓冲区中的字节全部写入通道
+     */
+    private void drain() throws IOException {
+        byteBuffer.flip();
+        while (byteBuffer.hasRemaining()) {
+            channel.write(byteBuffer);
+        }
+        byteBuffer.clear();
+    }
+
+    /**
+     * 已写入的数据行数（不含列头行）
+     *
+     * @return 行数
+     */
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * 将缓冲区写入通道；通过文件创建的会话同时关闭文件
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            CharBuffer empty = CharBuffer.allocate(0);
+            while (encoder.encode(empty, byteBuffer, true).isOverflow()) {
+                drain();
+            }
+            while (encoder.flush(byteBuffer).isOverflow()) {
+                drain();
+            }
+            drain();
+        } finally {
+            if (closeChannel) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * 一个输出列：列索引、列头标题和值的格式化方式，解析时确定一次
+     */
+    private static final class Column {
+        private final int index;
+        private final String header;
+        private final ExcelFieldAccessor accessor;
+        /**
+         * 没有前后缀的数值基本类型属性直接读取，不装箱
+         */
+        private final ExcelNumericFieldAccessor numericAccessor;
+        /**
+         * short/int/long 属性按 long 读取，保留全部位数
+         */
+        private final boolean integral;
+        /**
+         * float 属性按float的精度输出
+         */
+        private final boolean singlePrecision;
+        private final String prefix;
+        private final String suffix;
+        private final String dateFormat;
+        private SimpleDateFormat dateFormatter;
+
+        private Column(final ExcelFieldMetadata field, final ExcelCellProperty cellProperty, final String header) {
+            this.index = cellProperty.getIndex();
+            this.header = header;
+            this.prefix = StringUtils.isBlank(cellProperty.getPrefix()) ? null : cellProperty.getPrefix();
+            this.suffix = StringUtils.isBlank(cellProperty.getSuffix()) ? null : cellProperty.getSuffix();
+            this.dateFormat = StringUtils.isBlank(cellProperty.getDateFormat()) ? DEFAULT_DATE_FORMAT : cellProperty.getDateFormat();
+            this.numericAccessor = prefix == null && suffix == null ? field.getNumericAccessor() : null;
+            this.accessor = numericAccessor == null ? field.getAccessor() : null;
+            this.integral = field.getType() == short.class || field.getType() == int.class || field.getType() == long.class;
+            this.singlePrecision = field.getType() == float.class;
+        }
+
+        private void append(final ExcelCsvWriter writer, final Object bean) {
+            if (numericAccessor != null) {
+                if (integral) {
+                    writer.line.append(numericAccessor.getLong(bean));
+                } else if (singlePrecision) {
+                    writer.appendNumber((float) numericAccessor.getDouble(bean));
+                } else {
+                    writer.appendNumber(numericAccessor.getDouble(bean));
+                }
+                return;
+            }
+
+            Object value = accessor.get(bean);
+            String text;
+            if (value == null) {
+                text = "";
+            } else if (value instanceof String) {
+                text = (String) value;
+            } else if (value instanceof Date) {
+                if (dateFormatter == null) {
+                    dateFormatter = new SimpleDateFormat(dateFormat);
+                }
+                text = dateFormatter.format((Date) value);
+            } else if (prefix == null && suffix == null
+                    && (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+                writer.line.append(((Number) value).longValue());
+                return;
+            } else if (prefix == null && suffix == null && value instanceof Float) {
+                writer.appendNumber(((Float) value).floatValue());
+                return;
+            } else if (prefix == null && suffix == null && value instanceof Double) {
+                writer.appendNumber(((Double) value).doubleValue());
+                return;
+            } else {
+                text = ConvertUtils.convert(value);
+            }
+
+            if (prefix != null || suffix != null) {
+                text = StringUtils.defaultString(prefix) + text + StringUtils.defaultString(suffix);
+            }
+            writer.appendText(text);
+        }
+    }
+}
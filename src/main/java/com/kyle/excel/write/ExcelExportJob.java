@@ -0,0 +1,102 @@
+package com.kyle.excel.write;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * 异步导出任务
+ * <p>由 {@link ExcelExportService} 在工作线程中执行：以模板创建 {@link ExcelWriter}，调用 content 写入数据，
+ * 保存到 target 旁的临时文件后原子地替换 target。</p>
+ *
+ * <pre>
+ * ExcelExportJob job = new ExcelExportJob("/templates/person.xlsx", Paths.get("/exports/person.xlsx"),
+ *         writer -&gt; writer.write(0, 2, Person.class, personDao.stream(), null));
+ * job.setWriteConfig(ExcelWriteConfig.streaming(1000));
+ * job.setMemoryBytes(32L * 1024 * 1024);
+ * </pre>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelExportJob
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 22:40
+ */
+public class ExcelExportJob {
+    /**
+     * 模板文件全路径
+     */
+    private String templateFileFullName;
+    /**
+     * 导出的目标文件
+     */
+    private Path target;
+    /**
+     * 写入数据
+     */
+    private Consumer<ExcelWriter> content;
+    /**
+     * 写入配置 (为null时使用默认配置)
+     */
+    private ExcelWriteConfig writeConfig;
+    /**
+     * 任务预计占用的内存(字节)，0表示使用 {@link ExcelExportServiceConfig#getDefaultJobMemoryBytes()}
+     */
+    private long memoryBytes;
+
+    public ExcelExportJob() {}
+
+    /**
+     * 创建导出任务
+     *
+     * @param templateFileFullName 模板文件全路径
+     * @param target               导出的目标文件
+     * @param content              写入数据
+     */
+    public ExcelExportJob(final String templateFileFullName, final Path target, final Consumer<ExcelWriter> content) {
+        this.templateFileFullName = templateFileFullName;
+        this.target = target;
+        this.content = content;
+    }
+
+    public String getTemplateFileFullName() {
+        return templateFileFullName;
+    }
+
+    public void setTemplateFileFullName(String templateFileFullName) {
+        this.templateFileFullName = templateFileFullName;
+    }
+
+    public Path getTarget() {
+        return target;
+    }
+
+    public void setTarget(Path target) {
+        this.target = target;
+    }
+
+    public Consumer<ExcelWriter> getContent() {
+        return content;
+    }
+
+    public void setContent(Consumer<ExcelWriter> content) {
+        this.content = content;
+    }
+
+    public ExcelWriteConfig getWriteConfig() {
+        return writeConfig;
+    }
+
+    public void setWriteConfig(ExcelWriteConfig writeConfig) {
+        this.writeConfig = writeConfig;
+    }
+
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    public void setMemoryBytes(long memoryBytes) {
+        if (memoryBytes < 0) {
+            throw new IllegalArgumentException("memoryBytes cannot be negative");
+        }
+        this.memoryBytes = memoryBytes;
+    }
+}
@@ -0,0 +1,333 @@
+package com.kyle.excel.write;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.kyle.excel.util.FileUtil;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 异步导出服务
+ * <p>导出任务在独立的工作线程中执行，调用线程提交后立即返回 {@link CompletableFuture}，导出完成时得到目标文件路径。</p>
+ * <p>服务对并发导出做了三层限制：同时执行的任务数（工作线程数）、排队的任务数、排队和执行中的任务预计占用的内存之和。
+ * 任一限制已满时 {@link #submit(ExcelExportJob)} 直接抛出 {@link RejectedExecutionException}，由调用者决定重试或返回繁忙，
+ * 避免突发的大量导出耗尽内存。</p>
+ * <p>取消返回的 Future 时，排队中的任务被移出队列；执行中的任务所在线程被中断，写入在下一批行或下一次文件写入时停止，
+ * 目标文件保持不变。</p>
+ *
+ * <pre>
+ * ExcelExportService exportService = new ExcelExportService(new ExcelExportServiceConfig());
+ * CompletableFuture&lt;Path&gt; future = exportService.submit(job);
+ * </pre>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelExportService
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 22:45
+ */
+public class ExcelExportService implements Closeable {
+    private static final AtomicInteger SERVICE_NUMBER = new AtomicInteger();
+
+    private final ExcelExportServiceConfig config;
+    private final ThreadPoolExecutor executor;
+    /**
+     * 排队和执行中的任务已预留的内存(字节)
+     */
+    private final AtomicLong reservedMemoryBytes = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * 创建异步导出服务
+     *
+     * @param config 服务配置 (为null时使用默认配置)
+     */
+    public ExcelExportService(final ExcelExportServiceConfig config) {
+        this.config = config != null ? config : new ExcelExportServiceConfig();
+        BlockingQueue<Runnable> queue = this.config.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<Runnable>(this.config.getQueueCapacity())
+                : new SynchronousQueue<Runnable>();
+        this.executor = new ThreadPoolExecutor(this.config.getWorkerThreads(), this.config.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS, queue, new ExportThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 提交导出任务
+     *
+     * @param job 导出任务
+     * @return 导出完成时得到目标文件路径；取消时中止导出
+     * @throws RejectedExecutionException 队列已满、内存预算不足或服务已关闭
+     */
+    public CompletableFuture<Path> submit(final ExcelExportJob job) {
+        if (job == null || StringUtils.isBlank(job.getTemplateFileFullName())
+                || job.getTarget() == null || job.getContent() == null) {
+            throw new IllegalArgumentException("job, templateFileFullName, target and content cannot be null.");
+        }
+
+        long memoryBytes = job.getMemoryBytes() > 0 ? job.getMemoryBytes() : config.getDefaultJobMemoryBytes();
+        if (memoryBytes > config.getMemoryBudgetBytes()) {
+            throw new IllegalArgumentException("Job memory (" + memoryBytes + " bytes) exceeds the memory budget ("
+                    + config.getMemoryBudgetBytes() + " bytes)");
+        }
+
+        if (!reserveMemory(memoryBytes)) {
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException("Export memory budget exhausted: " + reservedMemoryBytes.get()
+                    + " of " + config.getMemoryBudgetBytes() + " bytes reserved");
+        }
+
+        ExportTask task = new ExportTask(job, memoryBytes);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.release();
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException(executor.isShutdown() ? "Export service has been shut down"
+                    : "Export queue is full: " + config.getQueueCapacity() + " jobs queued", e);
+        }
+        return task.future;
+    }
+
+    /**
+     * 预留内存，超出预算时不预留
+     */
+    private boolean reserveMemory(final long memoryBytes) {
+        while (true) {
+            long reserved = reservedMemoryBytes.get();
+            if (reserved + memoryBytes > config.getMemoryBudgetBytes()) {
+                return false;
+            }
+            if (reservedMemoryBytes.compareAndSet(reserved, reserved + memoryBytes)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 不再接受新任务，已提交的任务继续执行
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 不再接受新任务，取消排队中的任务并中断执行中的任务
+     */
+    public void shutdownNow() {
+        List<Runnable> queued = executor.shutdownNow();
+        for (Runnable runnable : queued) {
+            if (runnable instanceof ExportTask) {
+                ExportTask task = (ExportTask) runnable;
+                task.future.cancel(false);
+                task.release();
+            }
+        }
+    }
+
+    /**
+     * 等待所有任务执行完成
+     *
+     * @param timeout 超时时间
+     * @param unit    超时时间单位
+     * @return 是否在超时前完成
+     * @throws InterruptedException 等待时被中断
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * 关闭服务，同 {@link #shutdown()}
+     */
+    @Override
+    public void close() {
+        shutdown();
+    }
+
+    /**
+     * 排队中的任务数
+     *
+     * @return 任务数
+     */
+    public int getQueuedJobs() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 执行中的任务数
+     *
+     * @return 任务数
+     */
+    public int getRunningJobs() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 排队和执行中的任务已预留的内存
+     *
+     * @return 字节数
+     */
+    public long getReservedMemoryBytes() {
+        return reservedMemoryBytes.get();
+    }
+
+    /**
+     * 被拒绝的任务数
+     *
+     * @return 任务数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public ExcelExportServiceConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * 一个已提交的导出任务
+     */
+    private final class ExportTask implements Runnable {
+        private final ExcelExportJob job;
+        private final long memoryBytes;
+        private final ExportFuture future;
+        private final AtomicBoolean released = new AtomicBoolean();
+        /**
+         * 执行任务的线程，只在持有本对象锁时读写，避免中断落到之后的任务上
+         */
+        private Thread runner;
+
+        private ExportTask(final ExcelExportJob job, final long memoryBytes) {
+            this.job = job;
+            this.memoryBytes = memoryBytes;
+            this.future = new ExportFuture(this);
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                // 排队时已被取消
+                if (future.isDone()) {
+                    release();
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+            try {
+                export();
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                }
+                // 清除取消时设置的中断标记，工作线程继续执行后续任务
+                Thread.interrupted();
+                release();
+            }
+        }
+
+        /**
+         * 执行导出：写入 target 旁的临时文件，完成后原子地替换 target
+         * <p>替换和完成 Future 在持有本对象锁时进行，取消也持有同一把锁，
+         * 因此要么取消成功且目标文件不变，要么替换完成且取消失败。</p>
+         */
+        private void export() throws IOException {
+            File targetFile = job.getTarget().toFile();
+            File tempFile = FileUtil.createTempFileBeside(targetFile);
+            try (ExcelWriter writer = new ExcelWriter(job.getTemplateFileFullName(), job.getWriteConfig())) {
+                job.getContent().accept(writer);
+                try (OutputStream outputStream = FileUtil.openChannelOutputStream(tempFile)) {
+                    writer.save(outputStream);
+                }
+                synchronized (this) {
+                    // 已取消的任务不替换目标文件
+                    if (!future.isCancelled()) {
+                        FileUtil.moveAtomically(tempFile, targetFile);
+                        future.complete(job.getTarget());
+                    }
+                }
+            } finally {
+                if (tempFile.exists() && !tempFile.delete()) {
+                    tempFile.deleteOnExit();
+                }
+            }
+        }
+
+        /**
+         * 取消任务：排队中的任务移出队列，执行中的任务中断其线程
+         */
+        private void cancel() {
+            synchronized (this) {
+                if (runner != null) {
+                    runner.interrupt();
+                    return;
+                }
+            }
+            if (executor.remove(this)) {
+                release();
+            }
+        }
+
+        /**
+         * 释放预留的内存，只释放一次
+         */
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                reservedMemoryBytes.addAndGet(-memoryBytes);
+            }
+        }
+    }
+
+    /**
+     * 取消时同时取消导出任务的 Future
+     * <p>取消持有任务的锁，与导出完成时的替换目标文件互斥。</p>
+     */
+    private static final class ExportFuture extends CompletableFuture<Path> {
+        private final ExportTask task;
+
+        private ExportFuture(final ExportTask task) {
+            this.task = task;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            synchronized (task) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled) {
+                    task.cancel();
+                }
+                return cancelled;
+            }
+        }
+    }
+
+    /**
+     * 工作线程为守护线程，名称为 excelsugar-export-服务序号-线程序号
+     */
+    private static final class ExportThreadFactory implements ThreadFactory {
+        private final int serviceNumber = SERVICE_NUMBER.incrementAndGet();
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, "excelsugar-export-" + serviceNumber + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.kyle.excel.write;
+
+/**
+ * 异步导出服务配置
+ * <p>同时执行的任务数为 workerThreads，最多再排队 queueCapacity 个任务；
+ * 排队和执行中的任务预计占用的内存之和不超过 memoryBudgetBytes。任一条件不满足时新任务被拒绝。</p>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelExportServiceConfig
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 22:42
+ */
+public class ExcelExportServiceConfig {
+    /**
+     * 默认排队的任务数
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+    /**
+     * 默认每个任务预计占用的内存(字节)
+     */
+    public static final long DEFAULT_JOB_MEMORY_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * 工作线程数
+     */
+    private int workerThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    /**
+     * 最多排队的任务数（不含执行中的任务）
+     */
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    /**
+     * 所有任务的内存预算(字节)，默认为最大堆内存的一半
+     */
+    private long memoryBudgetBytes = Runtime.getRuntime().maxMemory() / 2;
+    /**
+     * 单个任务未指定预计内存时使用的值(字节)
+     */
+    private long defaultJobMemoryBytes = DEFAULT_JOB_MEMORY_BYTES;
+
+    public ExcelExportServiceConfig() {}
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("workerThreads must be greater than 0");
+        }
+        this.workerThreads = workerThreads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity cannot be negative");
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getMemoryBudgetBytes() {
+        return memoryBudgetBytes;
+    }
+
+    public void setMemoryBudgetBytes(long memoryBudgetBytes) {
+        if (memoryBudgetBytes < 1) {
+            throw new IllegalArgumentException("memoryBudgetBytes must be greater than 0");
+        }
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    public long getDefaultJobMemoryBytes() {
+        return defaultJobMemoryBytes;
+    }
+
+    public void setDefaultJobMemoryBytes(long defaultJobMemoryBytes) {
+        if (defaultJobMemoryBytes < 1) {
+            throw new IllegalArgumentException("defaultJobMemoryBytes must be greater than 0");
+        }
+        this.defaultJobMemoryBytes = defaultJobMemoryBytes;
+    }
+}
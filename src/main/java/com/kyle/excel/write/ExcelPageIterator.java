@@ -0,0 +1,43 @@
+package com.kyle.excel.write;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 将 {@link ExcelPageSupplier} 包装为迭代器，当前页读完后才获取下一页
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelPageIterator
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 19:12
+ */
+class ExcelPageIterator<T> implements Iterator<T> {
+    private final ExcelPageSupplier<? extends T> pageSupplier;
+    private List<? extends T> page;
+    private int pageNum;
+    private int index;
+    private boolean exhausted;
+
+    ExcelPageIterator(final ExcelPageSupplier<? extends T> pageSupplier) {
+        this.pageSupplier = pageSupplier;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!exhausted && (page == null || index >= page.size())) {
+            page = pageSupplier.getPage(pageNum++);
+            index = 0;
+            exhausted = page == null || page.isEmpty();
+        }
+        return !exhausted;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.get(index++);
+    }
+}
@@ -0,0 +1,26 @@
+package com.kyle.excel.write;
+
+import java.util.List;
+
+/**
+ * 分页数据源
+ * <p>写入时按页码依次获取数据，写完一页后再获取下一页，返回 null 或空列表表示没有更多数据。</p>
+ *
+ * <pre>
+ * writer.write(0, 1, Person.class, pageNum -&gt; personDao.findPage(pageNum, 5000), null);
+ * </pre>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelPageSupplier
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 19:10
+ */
+public interface ExcelPageSupplier<T> {
+    /**
+     * 获取一页数据
+     *
+     * @param pageNum 页码(0开始)
+     * @return 当前页的数据，null 或空列表表示没有更多数据
+     */
+    List<T> getPage(int pageNum);
+}
@@ -0,0 +1,75 @@
+package com.kyle.excel.write;
+
+import com.kyle.excel.enums.ExcelRolloverModeEnum;
+
+/**
+ * 拆分写入配置
+ * <p>每个sheet页（或文件）写入的数据行数达到 maxRows，或估算的字节数达到 maxBytes 时，拆分到新的sheet页（或文件）中继续写入。
+ * maxRows 为0时使用文件格式的行数上限（xls 65536行，xlsx 1048576行，均包含表头行），maxBytes 为0时不按字节数拆分。</p>
+ * <p>估算的字节数近似于单元格在 xlsx 中的XML大小（每个单元格固定开销加字符串长度），用于控制单个文件的大小，并非精确值。</p>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelRolloverConfig
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 23:12
+ */
+public class ExcelRolloverConfig {
+    /**
+     * 拆分方式
+     */
+    private ExcelRolloverModeEnum mode = ExcelRolloverModeEnum.FILE;
+    /**
+     * 每个sheet页（或文件）最多写入的数据行数，0表示文件格式的上限
+     */
+    private int maxRows;
+    /**
+     * 每个sheet页（或文件）最多写入的估算字节数，0表示不限制
+     */
+    private long maxBytes;
+
+    public ExcelRolloverConfig() {}
+
+    /**
+     * 创建按行数拆分的配置
+     *
+     * @param mode    拆分方式
+     * @param maxRows 每个sheet页（或文件）最多写入的数据行数
+     */
+    public ExcelRolloverConfig(final ExcelRolloverModeEnum mode, final int maxRows) {
+        setMode(mode);
+        setMaxRows(maxRows);
+    }
+
+    public ExcelRolloverModeEnum getMode() {
+        return mode;
+    }
+
+    public void setMode(ExcelRolloverModeEnum mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("mode cannot be null.");
+        }
+        this.mode = mode;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(int maxRows) {
+        if (maxRows < 0) {
+            throw new IllegalArgumentException("maxRows cannot be negative");
+        }
+        this.maxRows = maxRows;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes cannot be negative");
+        }
+        this.maxBytes = maxBytes;
+    }
+}
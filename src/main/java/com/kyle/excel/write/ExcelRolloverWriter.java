@@ -0,0 +1,140 @@
+package com.kyle.excel.write;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import com.kyle.excel.enums.ExcelRolloverModeEnum;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.util.FileUtil;
+
+/**
+ * 拆分写入
+ * <p>数据量超过文件格式的行数上限或指定的阈值时，按 {@link ExcelRolloverConfig} 拆分到多个sheet页或多个文件中。
+ * 每个部分都使用同一个模板，表头和样式与模板一致。</p>
+ * <p>按文件拆分时，每个文件是独立的工作簿：一个文件写满后在 {@link ExcelWriteConfig#getExecutor()} 上保存，
+ * 同时当前线程继续写入下一个文件。为控制内存，同一时间最多只有一个文件在保存。</p>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelRolloverWriter
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 23:20
+ */
+public final class ExcelRolloverWriter {
+    private ExcelRolloverWriter() {}
+
+    /**
+     * 将数据写入Excel，超过拆分阈值时拆分为多个sheet页或多个文件
+     *
+     * @param <T>
+     * @param fileFullName      模板文件全路径
+     * @param sheetIndex        写数据的sheet页
+     * @param startRowIndex     写数据的起始行,从1开始
+     * @param beanClass         待写入数据的Bean类
+     * @param datas             待写入数据
+     * @param headerMap         T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param localFileFullName 保存的文件全路径，按文件拆分时为各文件名的基础，如 report.xlsx 拆分为 report-001.xlsx、report-002.xlsx ...
+     * @param config            写入配置 (为null时使用默认配置)
+     * @param rollover          拆分配置
+     * @return 保存的文件全路径
+     */
+    public static <T extends ExcelBeanValidator> List<String> write(
+            final String fileFullName,
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Iterator<? extends T> datas,
+            final Map<String, String> headerMap,
+            final String localFileFullName,
+            final ExcelWriteConfig config,
+            final ExcelRolloverConfig rollover) {
+
+        if (beanClass == null || datas == null || rollover == null) {
+            throw new IllegalArgumentException("beanClass, datas and rollover cannot be null.");
+        }
+        if (!FileUtil.isExistsDic(localFileFullName)) {
+            throw new IllegalArgumentException("File '" + localFileFullName + "' directory does not exist");
+        }
+
+        if (rollover.getMode() == ExcelRolloverModeEnum.SHEET) {
+            try (ExcelWriter writer = new ExcelWriter(fileFullName, config)) {
+                writer.writeSheets(sheetIndex, startRowIndex, beanClass, datas, headerMap, rollover);
+                writer.save(FileUtil.getFile(localFileFullName));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return Collections.singletonList(localFileFullName);
+        }
+
+        Executor executor = config != null && config.getExecutor() != null ? config.getExecutor() : ForkJoinPool.commonPool();
+        List<String> fileNames = new ArrayList<String>();
+        CompletableFuture<Void> saving = CompletableFuture.completedFuture(null);
+        try {
+            boolean hasMore;
+            do {
+                final String partFileName = getPartFileName(localFileFullName, fileNames.size() + 1);
+                final ExcelWriter writer = new ExcelWriter(fileFullName, config);
+                try {
+                    hasMore = writer.writePart(sheetIndex, startRowIndex, beanClass, datas, headerMap, rollover);
+                    // 等待上一个文件保存完成，再在后台保存当前文件
+                    join(saving);
+                } catch (RuntimeException e) {
+                    writer.close();
+                    throw e;
+                }
+
+                saving = CompletableFuture.runAsync(() -> {
+                    try {
+                        writer.save(FileUtil.getFile(partFileName));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        writer.close();
+                    }
+                }, executor);
+                fileNames.add(partFileName);
+            } while (hasMore);
+        } catch (RuntimeException e) {
+            // 等待正在保存的文件结束后再抛出写入中的异常
+            saving.handle((result, error) -> null).join();
+            throw e;
+        }
+        join(saving);
+
+        return fileNames;
+    }
+
+    /**
+     * 获取拆分文件的文件名
+     *
+     * @param localFileFullName 保存的文件全路径
+     * @param part              拆分序号(从1开始)
+     * @return 如 /data/report-001.xlsx
+     */
+    public static String getPartFileName(final String localFileFullName, final int part) {
+        return FileUtil.getFullPath(localFileFullName) + FileUtil.getBaseName(localFileFullName)
+                + String.format("-%03d.", part) + FileUtil.getExtension(localFileFullName);
+    }
+
+    /**
+     * 等待保存完成，保存中的异常原样抛出
+     */
+    private static void join(final CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.kyle.excel.write;
+
+import java.util.List;
+import java.util.Map;
+
+import com.kyle.excel.metadata.ExcelBeanValidator;
+
+/**
+ * 多sheet写入时一个sheet页的数据
+ * <p>sheet页通过 sheetName 或 sheetIndex 指定，sheetName 不为空时优先使用 sheetName。</p>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelSheetData
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 18:40
+ */
+public class ExcelSheetData<T extends ExcelBeanValidator> {
+    /**
+     * 写数据的sheet页
+     */
+    private int sheetIndex;
+    /**
+     * 写数据的sheet页名称
+     */
+    private String sheetName;
+    /**
+     * 写数据的起始行,从1开始
+     */
+    private int startRowIndex;
+    /**
+     * 待写入数据
+     */
+    private List<T> datas;
+    /**
+     * T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     */
+    private Map<String, String> headerMap;
+
+    public ExcelSheetData() {}
+
+    public ExcelSheetData(int sheetIndex, int startRowIndex, List<T> datas, Map<String, String> headerMap) {
+        this.sheetIndex = sheetIndex;
+        this.startRowIndex = startRowIndex;
+        this.datas = datas;
+        this.headerMap = headerMap;
+    }
+
+    public ExcelSheetData(String sheetName, int startRowIndex, List<T> datas, Map<String, String> headerMap) {
+        this.sheetName = sheetName;
+        this.startRowIndex = startRowIndex;
+        this.datas = datas;
+        this.headerMap = headerMap;
+    }
+
+    public int getSheetIndex() {
+        return sheetIndex;
+    }
+
+    public void setSheetIndex(int sheetIndex) {
+        this.sheetIndex = sheetIndex;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    public void setSheetName(String sheetName) {
+        this.sheetName = sheetName;
+    }
+
+    public int getStartRowIndex() {
+        return startRowIndex;
+    }
+
+    public void setStartRowIndex(int startRowIndex) {
+        this.startRowIndex = startRowIndex;
+    }
+
+    public List<T> getDatas() {
+        return datas;
+    }
+
+    public void setDatas(List<T> datas) {
+        this.datas = datas;
+    }
+
+    public Map<String, String> getHeaderMap() {
+        return headerMap;
+    }
+
+    public void setHeaderMap(Map<String, String> headerMap) {
+        this.headerMap = headerMap;
+    }
+}
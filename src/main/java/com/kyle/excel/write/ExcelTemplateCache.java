@@ -0,0 +1,203 @@
+package com.kyle.excel.write;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.kyle.excel.util.FileUtil;
+
+/**
+ * 模板文件缓存
+ * <p>导出时模板只从磁盘读取一次，之后从内存中的字节打开，每次导出仍得到独立的Workbook。
+ * 模板的修改时间或大小变化时自动重新读取。缓存按最近最少使用(LRU)淘汰，
+ * 总字节数超过上限时同样淘汰最久未使用的模板，超过单个上限的模板不缓存。</p>
+ * <p>表头映射和列样式已由 {@link com.kyle.excel.metadata.ExcelColumnMapping} 按Bean类缓存，此处只缓存文件内容。</p>
+ * <p>线程安全。</p>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelTemplateCache
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 18:05
+ */
+public final class ExcelTemplateCache {
+    /**
+     * 默认最多缓存的模板数量
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 32;
+    /**
+     * 默认缓存的最大总字节数
+     */
+    public static final long DEFAULT_MAX_TOTAL_BYTES = 64L * 1024 * 1024;
+
+    private static final ExcelTemplateCache INSTANCE = new ExcelTemplateCache();
+
+    /**
+     * 访问顺序的LinkedHashMap，迭代顺序即为最久未使用到最近使用
+     */
+    private final LinkedHashMap<String, Template> templates = new LinkedHashMap<String, Template>(16, 0.75f, true);
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private long maxTotalBytes = DEFAULT_MAX_TOTAL_BYTES;
+    private long totalBytes;
+    private long hitCount;
+    private long missCount;
+
+    private ExcelTemplateCache() {
+    }
+
+    /**
+     * 获取全局模板缓存
+     *
+     * @return 模板缓存
+     */
+    public static ExcelTemplateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 打开模板文件，文件未变化时从缓存读取（调用者负责关闭返回的流）
+     *
+     * @param fileFullName 模板文件全路径
+     * @return 模板文件流
+     */
+    public InputStream openTemplate(final String fileFullName) {
+        File file = FileUtil.getFile(fileFullName);
+        Path path = file.toPath().toAbsolutePath().normalize();
+        String key = path.toString();
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // 文件不存在等情况由 FileUtil 给出统一的异常
+            invalidate(fileFullName);
+            return FileUtil.openInputStream(file);
+        }
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+
+        synchronized (this) {
+            Template template = templates.get(key);
+            if (template != null && template.lastModified == lastModified && template.bytes.length == size) {
+                hitCount++;
+                return new ByteArrayInputStream(template.bytes);
+            }
+            missCount++;
+        }
+
+        // 在锁外读取文件，避免阻塞其它模板的读取
+        if (size > maxTotalBytes) {
+            return FileUtil.openInputStream(file);
+        }
+        byte[] bytes;
+        try {
+            bytes = FileUtil.readFileToByteArray(file);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        put(key, new Template(bytes, lastModified));
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * 移除模板的缓存
+     *
+     * @param fileFullName 模板文件全路径
+     */
+    public synchronized void invalidate(final String fileFullName) {
+        String key = FileUtil.getFile(fileFullName).toPath().toAbsolutePath().normalize().toString();
+        Template template = templates.remove(key);
+        if (template != null) {
+            totalBytes -= template.bytes.length;
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    public synchronized void clear() {
+        templates.clear();
+        totalBytes = 0;
+    }
+
+    /**
+     * 设置最多缓存的模板数量
+     *
+     * @param maxEntries 最多缓存的模板数量，0 表示不缓存
+     */
+    public synchronized void setMaxEntries(final int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries cannot be negative.");
+        }
+        this.maxEntries = maxEntries;
+        evict();
+    }
+
+    /**
+     * 设置缓存的最大总字节数
+     *
+     * @param maxTotalBytes 缓存的最大总字节数，0 表示不缓存
+     */
+    public synchronized void setMaxTotalBytes(final long maxTotalBytes) {
+        if (maxTotalBytes < 0) {
+            throw new IllegalArgumentException("maxTotalBytes cannot be negative.");
+        }
+        this.maxTotalBytes = maxTotalBytes;
+        evict();
+    }
+
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private synchronized void put(final String key, final Template template) {
+        Template previous = templates.put(key, template);
+        if (previous != null) {
+            totalBytes -= previous.bytes.length;
+        }
+        totalBytes += template.bytes.length;
+        evict();
+    }
+
+    /**
+     * 淘汰最久未使用的模板，直到数量和总字节数都不超过上限
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Template>> iterator = templates.entrySet().iterator();
+        while (iterator.hasNext() && (templates.size() > maxEntries || totalBytes > maxTotalBytes)) {
+            totalBytes -= iterator.next().getValue().bytes.length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 缓存的模板内容
+     */
+    private static final class Template {
+        private final byte[] bytes;
+        private final long lastModified;
+
+        private Template(final byte[] bytes, final long lastModified) {
+            this.bytes = bytes;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.kyle.excel.write;
+
+import java.util.concurrent.Executor;
+
+import com.kyle.excel.enums.ExcelStringsModeEnum;
+import com.kyle.excel.metrics.ExcelMetricsListener;
+import com.kyle.excel.metrics.ExcelNoOpMetricsListener;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Excel写入配置
+ * <p>默认配置与原有的内存写入方式一致，开启 streaming 后，xlsx 模板将以 SXSSF 流式方式写入，
+ * 内存中只保留 rowAccessWindowSize 行，其余行刷新到临时文件中。</p>
+ * <p>xls 格式不支持流式写入，开启 streaming 时仍以内存方式写入。</p>
+ * <p>流式写入时字符串默认以 inlineStr 写入单元格，不维护共享字符串表；文本重复率高、更在意文件大小时可改为 {@link ExcelStringsModeEnum#SHARED}。
+ * 内存写入（XSSF）始终使用共享字符串表。</p>
+ * <p>多sheet写入时（以及开启 parallelConversion 后的单sheet写入），Bean到单元格值的转换按 parallelBatchSize 分批在 executor 上并行执行，
+ * 单元格仍由调用线程按顺序写入。同时转换中和等待写入的批次最多 maxInFlightBatches 个，内存中的行数不超过 parallelBatchSize * maxInFlightBatches。</p>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelWriteConfig
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 10:12
+ */
+public class ExcelWriteConfig {
+    /**
+     * 默认内存中保留的行数
+     */
+    public static final int DEFAULT_ROW_ACCESS_WINDOW_SIZE = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+    /**
+     * 默认每批并行转换的行数
+     */
+    public static final int DEFAULT_PARALLEL_BATCH_SIZE = 1000;
+    /**
+     * 默认同时转换中和等待写入的批次数
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = Runtime.getRuntime().availableProcessors() * 2;
+
+    /**
+     * 是否以SXSSF流式方式写入(仅xlsx有效)
+     */
+    private boolean streaming;
+    /**
+     * 流式写入时内存中保留的行数
+     */
+    private int rowAccessWindowSize = DEFAULT_ROW_ACCESS_WINDOW_SIZE;
+    /**
+     * 流式写入时是否压缩临时文件
+     */
+    private boolean compressTempFiles;
+    /**
+     * 流式写入时字符串的保存方式
+     */
+    private ExcelStringsModeEnum stringsMode = ExcelStringsModeEnum.INLINE;
+    /**
+     * 多sheet写入时并行转换数据的线程池，为null时使用 ForkJoinPool.commonPool()
+     */
+    private Executor executor;
+    /**
+     * 多sheet写入时每批并行转换的行数
+     */
+    private int parallelBatchSize = DEFAULT_PARALLEL_BATCH_SIZE;
+    /**
+     * 同时转换中和等待写入的批次数上限
+     */
+    private int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
+    /**
+     * 单sheet写入时是否并行转换数据
+     */
+    private boolean parallelConversion;
+    /**
+     * 导出指标监听器
+     */
+    private ExcelMetricsListener metricsListener = ExcelNoOpMetricsListener.INSTANCE;
+
+    public ExcelWriteConfig() {}
+
+    /**
+     * 创建默认配置（内存写入）
+     *
+     * @return 默认配置
+     */
+    public static ExcelWriteConfig defaultConfig() {
+        return new ExcelWriteConfig();
+    }
+
+    /**
+     * 创建流式写入配置
+     *
+     * @param rowAccessWindowSize 内存中保留的行数
+     * @return 流式写入配置
+     */
+    public static ExcelWriteConfig streaming(int rowAccessWindowSize) {
+        ExcelWriteConfig config = new ExcelWriteConfig();
+        config.setStreaming(true);
+        config.setRowAccessWindowSize(rowAccessWindowSize);
+        return config;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public int getRowAccessWindowSize() {
+        return rowAccessWindowSize;
+    }
+
+    public void setRowAccessWindowSize(int rowAccessWindowSize) {
+        if (rowAccessWindowSize == 0 || rowAccessWindowSize < -1) {
+            throw new IllegalArgumentException("rowAccessWindowSize must be greater than 0 or -1");
+        }
+        this.rowAccessWindowSize = rowAccessWindowSize;
+    }
+
+    public boolean isCompressTempFiles() {
+        return compressTempFiles;
+    }
+
+    public void setCompressTempFiles(boolean compressTempFiles) {
+        this.compressTempFiles = compressTempFiles;
+    }
+
+    public ExcelStringsModeEnum getStringsMode() {
+        return stringsMode;
+    }
+
+    public void setStringsMode(ExcelStringsModeEnum stringsMode) {
+        this.stringsMode = stringsMode != null ? stringsMode : ExcelStringsModeEnum.INLINE;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public int getParallelBatchSize() {
+        return parallelBatchSize;
+    }
+
+    public void setParallelBatchSize(int parallelBatchSize) {
+        if (parallelBatchSize < 1) {
+            throw new IllegalArgumentException("parallelBatchSize must be greater than 0");
+        }
+        this.parallelBatchSize = parallelBatchSize;
+    }
+
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    public void setMaxInFlightBatches(int maxInFlightBatches) {
+        if (maxInFlightBatches < 1) {
+            throw new IllegalArgumentException("maxInFlightBatches must be greater than 0");
+        }
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    public boolean isParallelConversion() {
+        return parallelConversion;
+    }
+
+    public void setParallelConversion(boolean parallelConversion) {
+        this.parallelConversion = parallelConversion;
+    }
+
+    public ExcelMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    public void setMetricsListener(ExcelMetricsListener metricsListener) {
+        this.metricsListener = metricsListener != null ? metricsListener : ExcelNoOpMetricsListener.INSTANCE;
+    }
+}
@@ -0,0 +1,837 @@
+package com.kyle.excel.write;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import com.kyle.excel.ExcelSugar;
+import com.kyle.excel.enums.ExcelStringsModeEnum;
+import com.kyle.excel.exception.ExcelAnalysisException;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.metadata.ExcelCellProperty;
+import com.kyle.excel.metadata.ExcelColumnMapping;
+import com.kyle.excel.util.FileUtil;
+import com.kyle.excel.write.ExcelColumnWriter.RowValues;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.IOUtils;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * Excel写入会话
+ * <p>每个实例持有一个独立的Workbook工作簿，对应一次导出。</p>
+ * <p>实例本身不是线程安全的，但不同实例之间没有共享状态，可以在多个线程中并行使用。</p>
+ *
+ * <pre>
+ * try (ExcelWriter writer = new ExcelWriter(templateInputStream, false, config)) {
+ *     writer.write(0, 1, data, null);
+ *     writer.save(outputStream);
+ * }
+ * </pre>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelWriter
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 11:05
+ */
+public class ExcelWriter implements Closeable {
+    /**
+     * sheet页名称的最大长度
+     */
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    private final Workbook workbook;
+    private final ExcelWriteConfig config;
+    private final ExcelCellStylePool cellStylePool;
+
+    /**
+     * 以模板文件创建写入会话，模板内容通过 {@link ExcelTemplateCache} 读取
+     *
+     * @param fileFullName 模板文件全路径
+     * @param config       写入配置 (为null时使用默认配置)
+     */
+    public ExcelWriter(final String fileFullName, final ExcelWriteConfig config) {
+        if (!ExcelSugar.isAllowedFile(fileFullName)) {
+            throw new IllegalArgumentException(String.format("File format has to be %s/%s", ExcelSugar.EXCEL_XLS, ExcelSugar.EXCEL_XLSX));
+        }
+
+        this.config = config != null ? config : ExcelWriteConfig.defaultConfig();
+        long start = System.nanoTime();
+        InputStream inputStream = ExcelTemplateCache.getInstance().openTemplate(fileFullName);
+        try {
+            this.workbook = createWorkbook(inputStream, FileUtil.isExtensionIgnoreCase(fileFullName, ExcelSugar.EXCEL_XLS));
+            this.cellStylePool = new ExcelCellStylePool(workbook);
+        } finally {
+            IOUtils.closeQuietly(inputStream);
+        }
+        this.config.getMetricsListener().onTemplateLoaded(fileFullName, System.nanoTime() - start);
+    }
+
+    /**
+     * 以模板流创建写入会话（不会关闭模板流）
+     *
+     * @param inputStream  模板文件流
+     * @param isOffice2003 是否为Office2003
+     * @param config       写入配置 (为null时使用默认配置)
+     */
+    public ExcelWriter(final InputStream inputStream, final boolean isOffice2003, final ExcelWriteConfig config) {
+        this.config = config != null ? config : ExcelWriteConfig.defaultConfig();
+        long start = System.nanoTime();
+        this.workbook = createWorkbook(inputStream, isOffice2003);
+        this.cellStylePool = new ExcelCellStylePool(workbook);
+        this.config.getMetricsListener().onTemplateLoaded(null, System.nanoTime() - start);
+    }
+
+    /**
+     * 初始化Workbook工作簿
+     * <p>开启流式写入时，xlsx模板被包装为SXSSF工作簿，模板本身仍可通过 {@link #getTemplateSheet(int)} 访问；
+     * 字符串按 {@link ExcelWriteConfig#getStringsMode()} 以 inlineStr 或共享字符串表写入</p>
+     *
+     * @param inputStream  模板文件流
+     * @param isOffice2003 是否为Office2003
+     * @return Workbook工作簿
+     */
+    private Workbook createWorkbook(final InputStream inputStream, final boolean isOffice2003) {
+        Workbook templateWorkbook = ExcelSugar.initWorkbook(inputStream, isOffice2003 ? ExcelSugar.EXCEL_XLS : ExcelSugar.EXCEL_XLSX);
+        if (config.isStreaming() && templateWorkbook instanceof XSSFWorkbook) {
+            return new SXSSFWorkbook((XSSFWorkbook) templateWorkbook, config.getRowAccessWindowSize(),
+                    config.isCompressTempFiles(), config.getStringsMode() == ExcelStringsModeEnum.SHARED);
+        }
+        return templateWorkbook;
+    }
+
+    /**
+     * 将数据写入指定sheet页
+     *
+     * @param <T>
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param datas         待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @return 当前写入会话
+     */
+    public <T extends ExcelBeanValidator> ExcelWriter write(
+            final int sheetIndex,
+            final int startRowIndex,
+            final List<T> datas,
+            final Map<String, String> headerMap) {
+
+        if (datas == null || datas.size() < 1) {
+            throw new IllegalArgumentException("datas cannot be null.");
+        }
+
+        return writeRows(sheetIndex, startRowIndex, datas.get(0).getClass(), datas.iterator(), headerMap);
+    }
+
+    /**
+     * 将迭代器中的数据写入指定sheet页，数据逐行读取、逐行写入，不需要预先全部加载到内存中
+     * <p>配合流式写入配置，可以由数据库游标等数据源端到端地流式导出。</p>
+     *
+     * @param <T>
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param beanClass     待写入数据的Bean类
+     * @param datas         待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @return 当前写入会话
+     */
+    public <T extends ExcelBeanValidator> ExcelWriter write(
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Iterator<? extends T> datas,
+            final Map<String, String> headerMap) {
+
+        if (beanClass == null || datas == null) {
+            throw new IllegalArgumentException("beanClass and datas cannot be null.");
+        }
+
+        return writeRows(sheetIndex, startRowIndex, beanClass, datas, headerMap);
+    }
+
+    /**
+     * 将Stream中的数据写入指定sheet页，数据逐行读取、逐行写入（不会关闭Stream）
+     *
+     * @param <T>
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param beanClass     待写入数据的Bean类
+     * @param datas         待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @return 当前写入会话
+     */
+    public <T extends ExcelBeanValidator> ExcelWriter write(
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Stream<? extends T> datas,
+            final Map<String, String> headerMap) {
+
+        if (datas == null) {
+            throw new IllegalArgumentException("datas cannot be null.");
+        }
+
+        return write(sheetIndex, startRowIndex, beanClass, datas.iterator(), headerMap);
+    }
+
+    /**
+     * 将分页获取的数据写入指定sheet页，每次只获取一页数据，写完后再获取下一页
+     *
+     * @param <T>
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param beanClass     待写入数据的Bean类
+     * @param pageSupplier  分页数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @return 当前写入会话
+     */
+    public <T extends ExcelBeanValidator> ExcelWriter write(
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final ExcelPageSupplier<? extends T> pageSupplier,
+            final Map<String, String> headerMap) {
+
+        if (pageSupplier == null) {
+            throw new IllegalArgumentException("pageSupplier cannot be null.");
+        }
+
+        return write(sheetIndex, startRowIndex, beanClass, new ExcelPageIterator<T>(pageSupplier), headerMap);
+    }
+
+    /**
+     * 逐行读取并写入数据
+     */
+    private ExcelWriter writeRows(
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<?> beanClass,
+            final Iterator<?> datas,
+            final Map<String, String> headerMap) {
+
+        SheetPlan plan = prepareSheet(sheetIndex, startRowIndex, beanClass, headerMap);
+        if (config.isParallelConversion()) {
+            writeParallel(Collections.singletonList(plan), Collections.<Iterator<?>>singletonList(datas));
+            return this;
+        }
+
+        // 写入数据
+        while (datas.hasNext()) {
+            Object data = datas.next();
+            if (data == null) continue;
+
+            plan.writeRow(data);
+        }
+        plan.reportRowsWritten();
+
+        return this;
+    }
+
+    /**
+     * 将迭代器中的数据写入指定sheet页，达到拆分阈值后在新的sheet页中继续写入
+     * <p>新sheet页追加在工作簿末尾，名称为 "模板sheet名 (序号)"，复制模板sheet页中数据起始行之前的表头行（值、样式、行高、列宽和合并单元格），
+     * 数据行使用与模板sheet页相同的列映射和样式。</p>
+     *
+     * @param <T>
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param beanClass     待写入数据的Bean类
+     * @param datas         待写入数据
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @param rollover      拆分配置
+     * @return 写入了数据的sheet页索引
+     */
+    public <T extends ExcelBeanValidator> List<Integer> writeSheets(
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<T> beanClass,
+            final Iterator<? extends T> datas,
+            final Map<String, String> headerMap,
+            final ExcelRolloverConfig rollover) {
+
+        if (beanClass == null || datas == null || rollover == null) {
+            throw new IllegalArgumentException("beanClass, datas and rollover cannot be null.");
+        }
+
+        long maxRows = getMaxRows(startRowIndex, rollover);
+        List<Integer> sheetIndexes = new ArrayList<Integer>();
+        SheetPlan plan = prepareSheet(sheetIndex, startRowIndex, beanClass, headerMap);
+        sheetIndexes.add(sheetIndex);
+        while (writeUntilFull(plan, datas, maxRows, rollover.getMaxBytes())) {
+            plan.reportRowsWritten();
+            plan = plan.continueOn(createPartSheet(sheetIndex, startRowIndex, sheetIndexes.size() + 1), startRowIndex);
+            sheetIndexes.add(plan.sheetIndex);
+        }
+        plan.reportRowsWritten();
+
+        return sheetIndexes;
+    }
+
+    /**
+     * 将数据写入指定sheet页，达到拆分阈值时停止，剩余数据留在迭代器中
+     *
+     * @return 是否还有未写入的数据
+     */
+    boolean writePart(
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<?> beanClass,
+            final Iterator<?> datas,
+            final Map<String, String> headerMap,
+            final ExcelRolloverConfig rollover) {
+
+        SheetPlan plan = prepareSheet(sheetIndex, startRowIndex, beanClass, headerMap);
+        boolean hasMore = writeUntilFull(plan, datas, getMaxRows(startRowIndex, rollover), rollover.getMaxBytes());
+        plan.reportRowsWritten();
+        return hasMore;
+    }
+
+    /**
+     * 逐行写入数据，直到数据写完或达到拆分阈值
+     *
+     * @return 是否还有未写入的数据
+     */
+    private static boolean writeUntilFull(final SheetPlan plan, final Iterator<?> datas, final long maxRows, final long maxBytes) {
+        while (datas.hasNext()) {
+            if (plan.isFull(maxRows, maxBytes)) {
+                return true;
+            }
+
+            Object data = datas.next();
+            if (data == null) continue;
+
+            plan.writeRow(data);
+        }
+        return false;
+    }
+
+    /**
+     * 每个sheet页最多写入的数据行数：拆分配置的行数，且不超过文件格式的行数上限
+     */
+    private long getMaxRows(final int startRowIndex, final ExcelRolloverConfig rollover) {
+        long limit = (long) workbook.getSpreadsheetVersion().getMaxRows() - startRowIndex;
+        return rollover.getMaxRows() > 0 ? Math.min(rollover.getMaxRows(), limit) : limit;
+    }
+
+    /**
+     * 创建拆分出的sheet页，并复制模板sheet页的表头
+     *
+     * @param sheetIndex    模板sheet页
+     * @param startRowIndex 写数据的起始行，之前的行为表头
+     * @param part          拆分序号(从2开始)
+     * @return 新sheet页的索引
+     */
+    private int createPartSheet(final int sheetIndex, final int startRowIndex, final int part) {
+        Sheet templateSheet = getTemplateSheet(sheetIndex);
+        String suffix = " (" + part + ")";
+        String baseName = StringUtils.left(templateSheet.getSheetName(), MAX_SHEET_NAME_LENGTH - suffix.length());
+        String sheetName = baseName + suffix;
+        for (int i = 2; workbook.getSheetIndex(sheetName) >= 0; i++) {
+            suffix = " (" + part + "-" + i + ")";
+            sheetName = StringUtils.left(templateSheet.getSheetName(), MAX_SHEET_NAME_LENGTH - suffix.length()) + suffix;
+        }
+
+        Sheet sheet = workbook.createSheet(sheetName);
+        copyHeader(templateSheet, sheet, startRowIndex);
+        return workbook.getSheetIndex(sheet);
+    }
+
+    /**
+     * 复制表头行（值、样式、行高）、列宽和表头内的合并单元格，两个sheet页属于同一个工作簿
+     */
+    private static void copyHeader(final Sheet source, final Sheet target, final int headerRows) {
+        int lastColumn = 0;
+        for (int rownum = 0; rownum < headerRows; rownum++) {
+            Row sourceRow = source.getRow(rownum);
+            if (sourceRow == null) {
+                continue;
+            }
+            Row targetRow = target.createRow(rownum);
+            targetRow.setHeight(sourceRow.getHeight());
+            if (sourceRow.getRowStyle() != null) {
+                targetRow.setRowStyle(sourceRow.getRowStyle());
+            }
+            for (Cell sourceCell : sourceRow) {
+                Cell targetCell = targetRow.createCell(sourceCell.getColumnIndex());
+                targetCell.setCellStyle(sourceCell.getCellStyle());
+                switch (sourceCell.getCellType()) {
+                    case NUMERIC:
+                        targetCell.setCellValue(sourceCell.getNumericCellValue());
+                        break;
+                    case BOOLEAN:
+                        targetCell.setCellValue(sourceCell.getBooleanCellValue());
+                        break;
+                    case FORMULA:
+                        targetCell.setCellFormula(sourceCell.getCellFormula());
+                        break;
+                    case STRING:
+                        targetCell.setCellValue(sourceCell.getRichStringCellValue());
+                        break;
+                    default:
+                        break;
+                }
+            }
+            lastColumn = Math.max(lastColumn, sourceRow.getLastCellNum());
+        }
+
+        for (int column = 0; column < lastColumn; column++) {
+            target.setColumnWidth(column, source.getColumnWidth(column));
+        }
+        for (CellRangeAddress region : source.getMergedRegions()) {
+            if (region.getLastRow() < headerRows) {
+                target.addMergedRegion(region.copy());
+            }
+        }
+    }
+
+    /**
+     * 将数据写入多个sheet页
+     * <p>各sheet页的映射先在当前线程中解析，Bean到单元格值的转换再按批在 {@link ExcelWriteConfig#getExecutor()} 上并行执行，
+     * 当前线程按sheet页和行的顺序写入已转换的批次，在途批次数受 {@link ExcelWriteConfig#getMaxInFlightBatches()} 限制。
+     * Workbook不是线程安全的，单元格始终只由当前线程写入。</p>
+     *
+     * @param sheetDatas 各sheet页的数据
+     * @return 当前写入会话
+     */
+    public ExcelWriter write(final List<? extends ExcelSheetData<?>> sheetDatas) {
+        if (sheetDatas == null || sheetDatas.isEmpty()) {
+            throw new IllegalArgumentException("sheetDatas cannot be null.");
+        }
+
+        // 解析每个sheet页的映射
+        List<SheetPlan> plans = new ArrayList<SheetPlan>(sheetDatas.size());
+        Set<Integer> sheetIndexes = new HashSet<Integer>();
+        for (ExcelSheetData<?> sheetData : sheetDatas) {
+            List<?> datas = sheetData.getDatas();
+            if (datas == null || datas.size() < 1) {
+                throw new IllegalArgumentException("datas cannot be null.");
+            }
+            int sheetIndex = getSheetIndex(sheetData);
+            if (!sheetIndexes.add(sheetIndex)) {
+                throw new IllegalArgumentException("Sheet index (" + sheetIndex + ") is written more than once");
+            }
+            plans.add(prepareSheet(sheetIndex, sheetData.getStartRowIndex(), datas.get(0).getClass(), sheetData.getHeaderMap()));
+        }
+
+        List<Iterator<?>> sources = new ArrayList<Iterator<?>>(sheetDatas.size());
+        for (ExcelSheetData<?> sheetData : sheetDatas) {
+            sources.add(sheetData.getDatas().iterator());
+        }
+        writeParallel(plans, sources);
+
+        return this;
+    }
+
+    /**
+     * 并行转换、顺序写入
+     * <p>当前线程从各sheet页的数据中依次读取批次并提交到 {@link ExcelWriteConfig#getExecutor()} 转换，
+     * 在途批次达到 {@link ExcelWriteConfig#getMaxInFlightBatches()} 时，先等待最早的批次转换完成并写入sheet页，再读取下一批，
+     * 因此批次按读取顺序写入，内存中的行数有上限。Workbook只由当前线程访问。</p>
+     *
+     * @param plans   各sheet页的写入计划
+     * @param sources 与写入计划一一对应的数据
+     */
+    private void writeParallel(final List<SheetPlan> plans, final List<Iterator<?>> sources) {
+        Executor executor = config.getExecutor() != null ? config.getExecutor() : ForkJoinPool.commonPool();
+        int batchSize = config.getParallelBatchSize();
+        int maxInFlight = config.getMaxInFlightBatches();
+        ArrayDeque<PendingBatch> pending = new ArrayDeque<PendingBatch>(maxInFlight);
+
+        try {
+            for (int s = 0; s < plans.size(); s++) {
+                final SheetPlan plan = plans.get(s);
+                Iterator<?> datas = sources.get(s);
+                while (datas.hasNext()) {
+                    final List<Object> batch = new ArrayList<Object>(batchSize);
+                    while (batch.size() < batchSize && datas.hasNext()) {
+                        batch.add(datas.next());
+                    }
+                    if (pending.size() >= maxInFlight) {
+                        pending.poll().write();
+                    }
+                    pending.add(new PendingBatch(plan, CompletableFuture.supplyAsync(() -> plan.convertBatch(batch), executor)));
+                }
+            }
+            while (!pending.isEmpty()) {
+                pending.poll().write();
+            }
+        } catch (RuntimeException e) {
+            for (PendingBatch batch : pending) {
+                batch.rows.cancel(false);
+            }
+            throw e;
+        }
+
+        for (SheetPlan plan : plans) {
+            plan.reportRowsWritten();
+        }
+    }
+
+    /**
+     * 已提交转换、等待写入的批次
+     */
+    private static final class PendingBatch {
+        private final SheetPlan plan;
+        private final CompletableFuture<RowValues[]> rows;
+
+        private PendingBatch(final SheetPlan plan, final CompletableFuture<RowValues[]> rows) {
+            this.plan = plan;
+            this.rows = rows;
+        }
+
+        /**
+         * 等待转换完成并按顺序写入sheet页
+         */
+        private void write() {
+            for (RowValues values : join(rows)) {
+                if (values != null) {
+                    plan.writeRow(values);
+                }
+            }
+        }
+    }
+
+    /**
+     * 解析sheet页的映射和样式
+     *
+     * @param sheetIndex    写数据的sheet页
+     * @param startRowIndex 写数据的起始行,从1开始
+     * @param beanClass     待写入数据的Bean类
+     * @param headerMap     T的属性Name 和 Excel列头标题 映射集合 (K:T的属性,V:Excel列头标题)
+     * @return 写入计划
+     */
+    private SheetPlan prepareSheet(
+            final int sheetIndex,
+            final int startRowIndex,
+            final Class<?> beanClass,
+            final Map<String, String> headerMap) {
+
+        long start = System.nanoTime();
+
+        // 读取模板Sheet
+        Sheet templateSheet = getTemplateSheet(sheetIndex);
+
+        // 获取导入数据的Bean中的属性 和 Excel列属性 的映射
+        ExcelColumnMapping mapping = ExcelColumnMapping.resolve(templateSheet, startRowIndex - 1, beanClass, headerMap);
+        // 注解样式从写入会话的样式池获取，流式写入时模板工作簿是SXSSF内部的XSSF工作簿，二者共用同一个样式表
+        ExcelCellProperty[] cellProperties = ExcelSugar.getCellProperties(mapping, templateSheet.getWorkbook(), cellStylePool);
+        // 按属性类型确定每列的写入策略，并按列索引排序，每行的单元格按列顺序追加
+        ExcelColumnWriter[] columnWriters = new ExcelColumnWriter[mapping.size()];
+        for (int i = 0; i < columnWriters.length; i++) {
+            columnWriters[i] = ExcelColumnWriter.of(mapping.getField(i), cellProperties[i]);
+        }
+        Arrays.sort(columnWriters, Comparator.comparingInt(columnWriter -> columnWriter.cellProperty.getIndex()));
+
+        // 流式写入：映射和样式已从模板中解析，删除模板中数据起始行及之后的行，SXSSF只能追加写入
+        if (isStreaming()) {
+            removeRows(templateSheet, startRowIndex);
+        }
+
+        config.getMetricsListener().onMappingResolved(beanClass, mapping.size(), System.nanoTime() - start);
+        return new SheetPlan(sheetIndex, workbook.getSheetAt(sheetIndex), startRowIndex, columnWriters);
+    }
+
+    /**
+     * 获取sheet页的索引，sheetName 不为空时按名称查找
+     */
+    private int getSheetIndex(final ExcelSheetData<?> sheetData) {
+        if (StringUtils.isBlank(sheetData.getSheetName())) {
+            return sheetData.getSheetIndex();
+        }
+        int sheetIndex = workbook.getSheetIndex(sheetData.getSheetName());
+        if (sheetIndex < 0) {
+            throw new IllegalArgumentException("Sheet '" + sheetData.getSheetName() + "' does not exist");
+        }
+        return sheetIndex;
+    }
+
+    /**
+     * 等待批次转换完成，转换中的异常原样抛出
+     */
+    private static RowValues[] join(final CompletableFuture<RowValues[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 保存Excel
+     *
+     * @param outputStream 需要保存的目标流
+     */
+    public void save(final OutputStream outputStream) {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("outputStream cannot be null.");
+        }
+        // 统计写出的字节数，不关闭目标流
+        CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+        long start = System.nanoTime();
+        ExcelSugar.save(workbook, countingOutputStream);
+        config.getMetricsListener().onWorkbookWritten(countingOutputStream.getByteCount(), System.nanoTime() - start);
+    }
+
+    /**
+     * 保存Excel到文件：先写入同目录下的临时文件，完成后原子地替换目标文件
+     *
+     * @param file 目标文件
+     * @throws IOException 写入或替换失败
+     */
+    public void save(final File file) throws IOException {
+        File tempFile = FileUtil.createTempFileBeside(file);
+        try {
+            try (OutputStream outputStream = FileUtil.openChannelOutputStream(tempFile)) {
+                save(outputStream);
+            }
+            FileUtil.moveAtomically(tempFile, file);
+        } finally {
+            if (tempFile.exists() && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * 关闭Excel，流式写入时同时删除临时文件
+     */
+    @Override
+    public void close() {
+        config.getMetricsListener().onStyleCacheStats(
+                cellStylePool.getHitCount(), cellStylePool.getMissCount(), cellStylePool.size());
+        ExcelSugar.close(workbook);
+    }
+
+    /**
+     * 获取模板sheet页，流式写入时返回被包装的xlsx模板中的sheet页
+     *
+     * @param sheetIndex sheet页
+     * @return 模板sheet页
+     */
+    public Sheet getTemplateSheet(final int sheetIndex) {
+        if (workbook instanceof SXSSFWorkbook) {
+            return ((SXSSFWorkbook) workbook).getXSSFWorkbook().getSheetAt(sheetIndex);
+        }
+        return workbook.getSheetAt(sheetIndex);
+    }
+
+    /**
+     * 删除指定行及之后的所有行
+     *
+     * @param sheet    sheet
+     * @param fromRow  起始行(0开始)
+     */
+    private static void removeRows(final Sheet sheet, final int fromRow) {
+        for (int rownum = sheet.getLastRowNum(); rownum >= fromRow; rownum--) {
+            Row row = sheet.getRow(rownum);
+            if (row != null) {
+                sheet.removeRow(row);
+            }
+        }
+    }
+
+    public boolean isStreaming() {
+        return workbook instanceof SXSSFWorkbook;
+    }
+
+    public Workbook getWorkbook() {
+        return workbook;
+    }
+
+    /**
+     * 获取工作簿的样式池，可用于查看样式缓存的命中情况
+     *
+     * @return 样式池
+     */
+    public ExcelCellStylePool getCellStylePool() {
+        return cellStylePool;
+    }
+
+    public ExcelWriteConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * 一个sheet页的写入计划：按列索引排序的各列写入策略，以及下一个写入的行
+     * <p>每行只获取或创建一次，单元格按列顺序追加。模板最后一行之后的行直接创建，不再查找已有的行和单元格。</p>
+     */
+    private final class SheetPlan {
+        private final int sheetIndex;
+        private final Sheet sheet;
+        private final ExcelColumnWriter[] columnWriters;
+        private final int[] cellnums;
+        private final boolean hasNumeric;
+        /**
+         * 从该行开始sheet页中没有已存在的行，直接追加
+         */
+        private final int appendFrom;
+        private int rownum;
+        private long rowsWritten;
+        /**
+         * 估算的已写入字节数，见 {@link ExcelColumnWriter#CELL_BYTES}
+         */
+        private long estimatedBytes;
+
+        private SheetPlan(final int sheetIndex, final Sheet sheet, final int startRowIndex,
+                          final ExcelColumnWriter[] columnWriters) {
+            this.sheetIndex = sheetIndex;
+            this.sheet = sheet;
+            this.rownum = startRowIndex;
+            this.columnWriters = columnWriters;
+            this.cellnums = new int[columnWriters.length];
+            boolean numeric = false;
+            for (int i = 0; i < columnWriters.length; i++) {
+                cellnums[i] = columnWriters[i].cellProperty.getIndex();
+                numeric |= columnWriters[i].isNumeric();
+            }
+            this.hasNumeric = numeric;
+            // 流式写入时模板中数据起始行及之后的行已删除，SXSSF的行也只能追加
+            this.appendFrom = isStreaming() || sheet.getPhysicalNumberOfRows() == 0
+                    ? startRowIndex : Math.max(startRowIndex, sheet.getLastRowNum() + 1);
+        }
+
+        /**
+         * 以相同的列写入策略在另一个sheet页上继续写入
+         *
+         * @param sheetIndex    sheet页
+         * @param startRowIndex 写数据的起始行
+         * @return 新sheet页的写入计划
+         */
+        private SheetPlan continueOn(final int sheetIndex, final int startRowIndex) {
+            return new SheetPlan(sheetIndex, workbook.getSheetAt(sheetIndex), startRowIndex, columnWriters);
+        }
+
+        /**
+         * 是否达到拆分阈值
+         */
+        private boolean isFull(final long maxRows, final long maxBytes) {
+            return rowsWritten >= maxRows || (maxBytes > 0 && estimatedBytes >= maxBytes);
+        }
+
+        /**
+         * 读取Bean中已映射属性的值，不访问Workbook，可以在任意线程中执行
+         *
+         * @param data 待写入的Bean
+         * @return 按映射顺序排列的值
+         */
+        private RowValues convertRow(final Object data) {
+            RowValues row = new RowValues(columnWriters.length, hasNumeric);
+            for (int i = 0; i < columnWriters.length; i++) {
+                columnWriters[i].read(data, row, i);
+            }
+            return row;
+        }
+
+        /**
+         * 转换一批Bean，null Bean 对应 null 行
+         */
+        private RowValues[] convertBatch(final List<?> datas) {
+            RowValues[] rows = new RowValues[datas.size()];
+            for (int r = 0; r < rows.length; r++) {
+                Object data = datas.get(r);
+                rows[r] = data != null ? convertRow(data) : null;
+            }
+            return rows;
+        }
+
+        /**
+         * 将Bean直接写入sheet页，不生成中间的行值
+         *
+         * @param data 待写入的Bean
+         */
+        private void writeRow(final Object data) {
+            Row row = beginRow();
+            boolean append = rownum >= appendFrom;
+            for (int i = 0; i < columnWriters.length; i++) {
+                Cell cell = append ? row.createCell(cellnums[i]) : getCell(row, cellnums[i]);
+                estimatedBytes += columnWriters[i].write(cell, data, cellStylePool);
+            }
+            nextRow();
+        }
+
+        /**
+         * 将一行已转换的值写入sheet页
+         *
+         * @param row 按映射顺序排列的值
+         */
+        private void writeRow(final RowValues values) {
+            Row row = beginRow();
+            boolean append = rownum >= appendFrom;
+            for (int i = 0; i < columnWriters.length; i++) {
+                Cell cell = append ? row.createCell(cellnums[i]) : getCell(row, cellnums[i]);
+                estimatedBytes += columnWriters[i].write(cell, values, i, cellStylePool);
+            }
+            nextRow();
+        }
+
+        /**
+         * 获取或创建当前行，第一行时同时设置列宽度
+         */
+        private Row beginRow() {
+            if (rownum == 0) {
+                for (ExcelColumnWriter columnWriter : columnWriters) {
+                    if (columnWriter.cellProperty.getWith() > 0) {
+                        sheet.setColumnWidth(columnWriter.cellProperty.getIndex(), columnWriter.cellProperty.getWith());
+                    }
+                }
+            }
+
+            if (rownum >= appendFrom) {
+                return sheet.createRow(rownum);
+            }
+            Row row = sheet.getRow(rownum);
+            return row != null ? row : sheet.createRow(rownum);
+        }
+
+        /**
+         * 获取模板已有行中的单元格，不存在时创建
+         */
+        private Cell getCell(final Row row, final int cellnum) {
+            Cell cell = row.getCell(cellnum);
+            return cell != null ? cell : row.createCell(cellnum);
+        }
+
+        private void nextRow() {
+            rownum++;
+            rowsWritten++;
+
+            // 每1024行检查一次线程中断，异步导出被取消时尽快停止
+            if ((rowsWritten & 0x3FF) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new ExcelAnalysisException("Export interrupted after " + rowsWritten + " rows");
+            }
+        }
+
+        /**
+         * 通知指标监听器本次写入的行数和单元格数
+         */
+        private void reportRowsWritten() {
+            config.getMetricsListener().onRowsWritten(sheetIndex, rowsWritten, rowsWritten * columnWriters.length);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.kyle.excel.write;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+
+/**
+ * 将多个工作簿逐个写入同一个zip包
+ * <p>每个工作簿生成后直接写入zip条目，写完即关闭，同一时间内存中只有一个工作簿，配合流式写入配置时内存占用与工作簿数量无关。
+ * 目标流可以是文件，也可以是HTTP响应的输出流。</p>
+ * <p>xlsx 本身已是压缩格式，写入时使用最快的压缩级别；xls 使用默认压缩级别。</p>
+ *
+ * <pre>
+ * try (ExcelZipWriter zipWriter = new ExcelZipWriter(response.getOutputStream())) {
+ *     for (Branch branch : branches) {
+ *         zipWriter.putEntry(branch.getName() + ".xlsx", "/templates/branch.xlsx", ExcelWriteConfig.streaming(1000),
+ *                 writer -&gt; writer.write(0, 2, Sale.class, saleDao.streamByBranch(branch), null));
+ *     }
+ * }
+ * </pre>
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelZipWriter
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-18 23:50
+ */
+public class ExcelZipWriter implements Closeable {
+    private final ZipOutputStream zipOutputStream;
+    private int entryCount;
+
+    /**
+     * 创建zip写入器（关闭时结束zip包，但不会关闭目标流）
+     *
+     * @param outputStream 目标流
+     */
+    public ExcelZipWriter(final OutputStream outputStream) {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("outputStream cannot be null.");
+        }
+        this.zipOutputStream = new ZipOutputStream(new CloseShieldOutputStream(outputStream));
+    }
+
+    /**
+     * 以模板生成一个工作簿并写入zip条目，写完后关闭工作簿
+     *
+     * @param entryName            zip条目名称，如 "branch-01.xlsx"
+     * @param templateFileFullName 模板文件全路径
+     * @param config               写入配置 (为null时使用默认配置)
+     * @param content              写入数据
+     * @return 当前zip写入器
+     * @throws IOException 写入zip包失败
+     */
+    public ExcelZipWriter putEntry(final String entryName, final String templateFileFullName,
+                                   final ExcelWriteConfig config, final Consumer<ExcelWriter> content) throws IOException {
+        if (content == null) {
+            throw new IllegalArgumentException("content cannot be null.");
+        }
+        try (ExcelWriter writer = new ExcelWriter(templateFileFullName, config)) {
+            content.accept(writer);
+            return putEntry(entryName, writer);
+        }
+    }
+
+    /**
+     * 将已写入数据的工作簿保存为zip条目（不会关闭写入会话）
+     *
+     * @param entryName zip条目名称
+     * @param writer    写入会话
+     * @return 当前zip写入器
+     * @throws IOException 写入zip包失败
+     */
+    public ExcelZipWriter putEntry(final String entryName, final ExcelWriter writer) throws IOException {
+        if (StringUtils.isBlank(entryName) || writer == null) {
+            throw new IllegalArgumentException("entryName and writer cannot be null.");
+        }
+
+        zipOutputStream.setLevel(writer.getWorkbook() instanceof HSSFWorkbook
+                ? Deflater.DEFAULT_COMPRESSION : Deflater.BEST_SPEED);
+        zipOutputStream.putNextEntry(new ZipEntry(entryName));
+        // xlsx 保存时会关闭传入的流，屏蔽关闭以免结束整个zip包
+        writer.save(new CloseShieldOutputStream(zipOutputStream));
+        zipOutputStream.closeEntry();
+        entryCount++;
+        return this;
+    }
+
+    /**
+     * 已写入的条目数
+     *
+     * @return 条目数
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * 结束zip包并刷新目标流，目标流不会被关闭
+     */
+    @Override
+    public void close() throws IOException {
+        zipOutputStream.finish();
+        zipOutputStream.flush();
+        zipOutputStream.close();
+    }
+}
@@ -0,0 +1,119 @@
+package com.kyle.excel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.Map;
+
+import com.kyle.excel.annotation.ExcelProperty;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import com.kyle.excel.metadata.ExcelCellProperty;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+/**
+ * ExcelSugar 单元格写入测试
+ *
+ * @package: com.kyle.excel
+ * @className: ExcelSugarTest
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 14:10
+ */
+public class ExcelSugarTest {
+
+    @Test
+    public void dateCellsReuseOneDerivedStyleOnXls() throws IOException {
+        try (Workbook workbook = new HSSFWorkbook()) {
+            assertDateCellsReuseOneDerivedStyle(workbook);
+        }
+    }
+
+    @Test
+    public void dateCellsReuseOneDerivedStyleOnXlsx() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            assertDateCellsReuseOneDerivedStyle(workbook);
+        }
+    }
+
+    @Test
+    public void repeatedColumnMappingDoesNotAddStyles() throws IOException {
+        try (Workbook workbook = new HSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(1).setCellValue("Score");
+
+            Map<String, ExcelCellProperty> first = ExcelSugar.getBeanNameColumnIndexMap(sheet, 0, Styled.class, null);
+            int styles = workbook.getNumCellStyles();
+            for (int i = 0; i < 100; i++) {
+                Map<String, ExcelCellProperty> again = ExcelSugar.getBeanNameColumnIndexMap(sheet, 0, Styled.class, null);
+                assertEquals(first.get("name").getCellStyle().getIndex(), again.get("name").getCellStyle().getIndex());
+                assertEquals(first.get("score").getCellStyle().getIndex(), again.get("score").getCellStyle().getIndex());
+            }
+
+            assertEquals(styles, workbook.getNumCellStyles());
+            CellStyle nameStyle = first.get("name").getCellStyle();
+            assertTrue(workbook.getFontAt(nameStyle.getFontIndexAsInt()).getBold());
+            assertEquals("#,##0.00", first.get("score").getCellStyle().getDataFormatString());
+        }
+    }
+
+    /**
+     * 通过3参数的 setCellValue 写入数千个时间值，每种模板样式只增加一个派生样式
+     */
+    private static void assertDateCellsReuseOneDerivedStyle(final Workbook workbook) {
+        Sheet sheet = workbook.createSheet();
+        CellStyle template = workbook.createCellStyle();
+        template.setBorderBottom(BorderStyle.THIN);
+        int styles = workbook.getNumCellStyles();
+
+        for (int i = 0; i < 5000; i++) {
+            Cell cell = sheet.createRow(i).createCell(0);
+            cell.setCellStyle(template);
+            ExcelSugar.setCellValue(cell, new Date(), null);
+        }
+
+        assertEquals(styles + 1, workbook.getNumCellStyles());
+        CellStyle dateStyle = sheet.getRow(0).getCell(0).getCellStyle();
+        assertNotSame(template, dateStyle);
+        assertEquals("MM/dd/yyyy HH:mm:ss", dateStyle.getDataFormatString());
+        assertEquals(BorderStyle.THIN, dateStyle.getBorderBottom());
+        assertEquals(dateStyle.getIndex(), sheet.getRow(4999).getCell(0).getCellStyle().getIndex());
+        // 模板样式本身没有被修改
+        assertEquals(0, template.getDataFormat());
+        assertSame(BorderStyle.THIN, template.getBorderBottom());
+
+        // 没有设置样式的单元格从默认样式派生，同样只增加一个样式
+        for (int i = 0; i < 5000; i++) {
+            ExcelSugar.setCellValue(sheet.getRow(i).createCell(1), new Date(), null);
+        }
+        assertEquals(styles + 2, workbook.getNumCellStyles());
+    }
+
+    public static class Styled implements ExcelBeanValidator {
+        @ExcelProperty(name = "Name", cellStyleJson = "{\"bold\":true,\"fillForegroundColor\":\"YELLOW\"}")
+        private String name;
+
+        @ExcelProperty(name = "Score", cellStyleJson = "{\"dataFormat\":\"#,##0.00\",\"border\":\"THIN\"}")
+        private double score;
+
+        public String getName() {
+            return name;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.kyle.excel;
+
+import java.util.Date;
+
+import com.kyle.excel.annotation.ExcelProperty;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+
+/**
+ * 测试用Bean，列与 {@link ExcelTestTemplates} 创建的模板列头对应
+ *
+ * @package: com.kyle.excel
+ * @className: ExcelTestPerson
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 10:20
+ */
+public class ExcelTestPerson implements ExcelBeanValidator {
+    @ExcelProperty(name = "Name")
+    private String name;
+
+    @ExcelProperty(name = "Age")
+    private int age;
+
+    @ExcelProperty(name = "Score")
+    private Double score;
+
+    @ExcelProperty(name = "Birthday", dateFormat = "yyyy-MM-dd HH:mm:ss")
+    private Date birthday;
+
+    public ExcelTestPerson() {
+    }
+
+    public ExcelTestPerson(final String name, final int age, final Double score, final Date birthday) {
+        this.name = name;
+        this.age = age;
+        this.score = score;
+        this.birthday = birthday;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public Date getBirthday() {
+        return birthday;
+    }
+
+    public void setBirthday(Date birthday) {
+        this.birthday = birthday;
+    }
+}
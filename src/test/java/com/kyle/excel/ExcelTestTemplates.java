@@ -0,0 +1,74 @@
+package com.kyle.excel;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * 测试用模板：第0行为标题，第1行为列头，第2行为带边框样式的数据行（写数据的起始行为2）
+ *
+ * @package: com.kyle.excel
+ * @className: ExcelTestTemplates
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 10:20
+ */
+public final class ExcelTestTemplates {
+    public static final int SHEET_INDEX = 0;
+    public static final int START_ROW_INDEX = 2;
+    public static final String[] HEADERS = {"Name", "Age", "Score", "Birthday", "Other"};
+
+    private ExcelTestTemplates() {
+    }
+
+    /**
+     * 按扩展名创建 xls/xlsx 模板
+     *
+     * @param file 模板文件
+     * @return 模板文件
+     * @throws IOException
+     */
+    public static File createTemplate(final File file) throws IOException {
+        try (Workbook workbook = file.getName().endsWith(".xls") ? new HSSFWorkbook() : new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("data");
+            sheet.createRow(0).createCell(0).setCellValue("Title");
+            Row header = sheet.createRow(1);
+            Row data = sheet.createRow(START_ROW_INDEX);
+            CellStyle style = workbook.createCellStyle();
+            style.setBorderBottom(BorderStyle.THIN);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+                data.createCell(i).setCellStyle(style);
+            }
+            try (OutputStream outputStream = Files.newOutputStream(file.toPath())) {
+                workbook.write(outputStream);
+            }
+        }
+        return file;
+    }
+
+    /**
+     * 创建测试数据，第 i 个Bean的年龄为 i，分数为 i*1.5（下标为2的分数为null）
+     *
+     * @param count 数量
+     * @return 测试数据
+     */
+    public static List<ExcelTestPerson> persons(final int count) {
+        List<ExcelTestPerson> persons = new ArrayList<ExcelTestPerson>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new ExcelTestPerson("p" + i, i, i == 2 ? null : i * 1.5, new Date(1000000000000L + i * 86400000L)));
+        }
+        return persons;
+    }
+}
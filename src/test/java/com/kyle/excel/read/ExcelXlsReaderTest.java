@@ -0,0 +1,123 @@
+package com.kyle.excel.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.kyle.excel.ExcelSugar;
+import com.kyle.excel.ExcelTestPerson;
+import com.kyle.excel.ExcelTestTemplates;
+import com.kyle.excel.exception.ExcelAnalysisException;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * xls 事件模式读取测试
+ *
+ * @package: com.kyle.excel.read
+ * @className: ExcelXlsReaderTest
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 10:45
+ */
+public class ExcelXlsReaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File template;
+
+    @Before
+    public void setUp() throws IOException {
+        template = ExcelTestTemplates.createTemplate(folder.newFile("template.xls"));
+    }
+
+    @Test
+    public void readsWhatWasWritten() {
+        List<ExcelTestPerson> persons = ExcelTestTemplates.persons(5);
+        File file = write(persons);
+
+        List<ExcelTestPerson> read = read(file, ExcelTestTemplates.SHEET_INDEX);
+
+        assertEquals(persons.size(), read.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i).getName(), read.get(i).getName());
+            assertEquals(persons.get(i).getAge(), read.get(i).getAge());
+            assertEquals(persons.get(i).getScore(), read.get(i).getScore());
+            assertEquals(persons.get(i).getBirthday(), read.get(i).getBirthday());
+        }
+    }
+
+    @Test
+    public void readsCachedFormulaResultsFromTheRequestedSheet() throws IOException {
+        File file = write(ExcelTestTemplates.persons(3));
+        File withFormulas = new File(folder.getRoot(), "formulas.xls");
+        try (HSSFWorkbook workbook = new HSSFWorkbook(Files.newInputStream(file.toPath()))) {
+            HSSFSheet sheet = workbook.getSheetAt(ExcelTestTemplates.SHEET_INDEX);
+            sheet.getRow(3).getCell(0).setCellFormula("\"form\"&\"ula\"");
+            sheet.getRow(4).getCell(1).setCellFormula("20+3");
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            // 在数据页之前插入一个只有列头的sheet页，数据页的索引变为1
+            workbook.createSheet("other").createRow(1).createCell(0).setCellValue("Name");
+            workbook.setSheetOrder("other", 0);
+            try (OutputStream outputStream = Files.newOutputStream(withFormulas.toPath())) {
+                workbook.write(outputStream);
+            }
+        }
+
+        assertTrue(read(withFormulas, 0).isEmpty());
+        List<ExcelTestPerson> read = read(withFormulas, 1);
+        assertEquals(3, read.size());
+        assertEquals("formula", read.get(1).getName());
+        assertEquals(1, read.get(1).getAge());
+        assertEquals("p2", read.get(2).getName());
+        assertEquals(23, read.get(2).getAge());
+    }
+
+    @Test
+    public void unconvertibleNumberFailsWithCellPosition() throws IOException {
+        File file = write(ExcelTestTemplates.persons(2));
+        File badFile = new File(folder.getRoot(), "bad-age.xls");
+        try (HSSFWorkbook workbook = new HSSFWorkbook(Files.newInputStream(file.toPath()))) {
+            workbook.getSheetAt(ExcelTestTemplates.SHEET_INDEX).getRow(3).getCell(1).setCellValue("1,234");
+            try (OutputStream outputStream = Files.newOutputStream(badFile.toPath())) {
+                workbook.write(outputStream);
+            }
+        }
+
+        try {
+            read(badFile, ExcelTestTemplates.SHEET_INDEX);
+            fail("expected ExcelAnalysisException");
+        } catch (ExcelAnalysisException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Can not convert cell(row 3, column 1) value '1,234'"));
+        }
+    }
+
+    @Test(expected = ExcelAnalysisException.class)
+    public void sheetIndexOutOfRange() {
+        read(template, 3);
+    }
+
+    private File write(final List<ExcelTestPerson> persons) {
+        File file = new File(folder.getRoot(), "persons.xls");
+        ExcelSugar.saveAsExcel(template.getPath(), ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX,
+                persons, null, file.getPath());
+        return file;
+    }
+
+    private List<ExcelTestPerson> read(final File file, final int sheetIndex) {
+        List<ExcelTestPerson> read = new ArrayList<ExcelTestPerson>();
+        new ExcelXlsReader().read(file, sheetIndex, ExcelTestTemplates.START_ROW_INDEX,
+                ExcelTestPerson.class, null, (bean, rowIndex) -> read.add(bean));
+        return read;
+    }
+}
@@ -0,0 +1,120 @@
+package com.kyle.excel.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.kyle.excel.ExcelSugar;
+import com.kyle.excel.ExcelTestPerson;
+import com.kyle.excel.ExcelTestTemplates;
+import com.kyle.excel.exception.ExcelAnalysisException;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * xlsx 流式读取测试
+ *
+ * @package: com.kyle.excel.read
+ * @className: ExcelXlsxReaderTest
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 10:30
+ */
+public class ExcelXlsxReaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File template;
+
+    @Before
+    public void setUp() throws IOException {
+        template = ExcelTestTemplates.createTemplate(folder.newFile("template.xlsx"));
+    }
+
+    @Test
+    public void readsWhatWasWritten() throws IOException {
+        List<ExcelTestPerson> persons = ExcelTestTemplates.persons(5);
+        File file = new File(folder.getRoot(), "persons.xlsx");
+        ExcelSugar.saveAsExcel(template.getPath(), ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX,
+                persons, null, file.getPath());
+
+        List<ExcelTestPerson> read = new ArrayList<ExcelTestPerson>();
+        List<Integer> rowIndexes = new ArrayList<Integer>();
+        new ExcelXlsxReader().read(file, ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX,
+                ExcelTestPerson.class, null, (bean, rowIndex) -> {
+                    read.add(bean);
+                    rowIndexes.add(rowIndex);
+                });
+
+        assertEquals(persons.size(), read.size());
+        for (int i = 0; i < persons.size(); i++) {
+            ExcelTestPerson expected = persons.get(i);
+            ExcelTestPerson actual = read.get(i);
+            assertEquals(ExcelTestTemplates.START_ROW_INDEX + i, rowIndexes.get(i).intValue());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getAge(), actual.getAge());
+            assertEquals(expected.getScore(), actual.getScore());
+            assertEquals(expected.getBirthday(), actual.getBirthday());
+        }
+        assertNull(read.get(2).getScore());
+    }
+
+    @Test
+    public void readsFromInputStream() throws IOException {
+        File file = new File(folder.getRoot(), "persons.xlsx");
+        ExcelSugar.saveAsExcel(template.getPath(), ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX,
+                ExcelTestTemplates.persons(3), null, file.getPath());
+
+        List<ExcelTestPerson> read = new ArrayList<ExcelTestPerson>();
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            new ExcelXlsxReader().read(inputStream, ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX,
+                    ExcelTestPerson.class, null, (bean, rowIndex) -> read.add(bean));
+        }
+
+        assertEquals(3, read.size());
+        assertEquals("p2", read.get(2).getName());
+    }
+
+    @Test
+    public void unconvertibleNumberFailsWithCellPosition() throws IOException {
+        File file = new File(folder.getRoot(), "bad.xlsx");
+        ExcelSugar.saveAsExcel(template.getPath(), ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX,
+                ExcelTestTemplates.persons(1), null, file.getPath());
+        try (Workbook workbook = WorkbookFactory.create(file)) {
+            Sheet sheet = workbook.getSheetAt(ExcelTestTemplates.SHEET_INDEX);
+            sheet.getRow(ExcelTestTemplates.START_ROW_INDEX).getCell(1).setCellValue("abc");
+            File copy = new File(folder.getRoot(), "bad-age.xlsx");
+            try (OutputStream outputStream = Files.newOutputStream(copy.toPath())) {
+                workbook.write(outputStream);
+            }
+            file = copy;
+        }
+
+        try {
+            new ExcelXlsxReader().read(file, ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX,
+                    ExcelTestPerson.class, null, (bean, rowIndex) -> fail("row should not be converted"));
+            fail("expected ExcelAnalysisException");
+        } catch (ExcelAnalysisException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Can not convert cell(row 2, column 1) value 'abc'"));
+        }
+    }
+
+    @Test(expected = ExcelAnalysisException.class)
+    public void sheetIndexOutOfRange() {
+        new ExcelXlsxReader().read(template, 3, ExcelTestTemplates.START_ROW_INDEX,
+                ExcelTestPerson.class, null, (bean, rowIndex) -> fail("no rows expected"));
+    }
+}
@@ -0,0 +1,158 @@
+package com.kyle.excel.write;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import com.kyle.excel.annotation.ExcelProperty;
+import com.kyle.excel.enums.ExcelTypeEnum;
+import com.kyle.excel.metadata.ExcelBeanValidator;
+import org.junit.Test;
+
+/**
+ * CSV/TSV 写入测试
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelCsvWriterTest
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 11:00
+ */
+public class ExcelCsvWriterTest {
+
+    @Test
+    public void quotesOnlyFieldsThatNeedIt() throws IOException {
+        List<Text> datas = Arrays.asList(
+                new Text("plain", "a,b"),
+                new Text("say \"hi\"", "line1\nline2"),
+                new Text(null, "cr\rhere"));
+
+        assertEquals("Name,Remark\r\n"
+                + "plain,\"a,b\"\r\n"
+                + "\"say \"\"hi\"\"\",\"line1\nline2\"\r\n"
+                + ",\"cr\rhere\"\r\n", write(datas, ExcelTypeEnum.CSV));
+    }
+
+    @Test
+    public void tsvReplacesTabsAndLineBreaksInsteadOfQuoting() throws IOException {
+        List<Text> datas = Arrays.asList(new Text("a,\"b\"", "tab\there\r\nnext"));
+
+        assertEquals("Name\tRemark\n"
+                + "a,\"b\"\ttab here  next\n", write(datas, ExcelTypeEnum.TSV));
+    }
+
+    @Test
+    public void writesNumbersWithoutLosingDigitsOrUsingExponents() throws IOException {
+        List<Numbers> datas = Arrays.asList(
+                new Numbers(12345678901234567L, 1000000000000000L, 1e15, 0.1f, 1e-5, -3),
+                new Numbers(Long.MIN_VALUE, null, 2.5, 3f, 1234567.125, 0),
+                new Numbers(0, 7L, 0.0, -0f, Double.NaN, 1));
+
+        assertEquals("Long,BoxedLong,Double,Float,BoxedDouble,Int\r\n"
+                + "12345678901234567,1000000000000000,1000000000000000,0.1,0.00001,-3\r\n"
+                + "-9223372036854775808,,2.5,3,1234567.125,0\r\n"
+                + "0,7,0,0,NaN,1\r\n", write(datas, ExcelTypeEnum.CSV));
+    }
+
+    @Test
+    public void writesBomBeforeHeader() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelCsvWriter writer = new ExcelCsvWriter(outputStream, ExcelTypeEnum.CSV, StandardCharsets.UTF_8)) {
+            writer.writeBom().write(Arrays.asList(new Text("中文", "x")), null);
+        }
+
+        assertEquals("\uFEFFName,Remark\r\n中文,x\r\n", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsExcelTypes() {
+        new ExcelCsvWriter(new ByteArrayOutputStream(), ExcelTypeEnum.XLSX, StandardCharsets.UTF_8);
+    }
+
+    private static String write(final List<?> datas, final ExcelTypeEnum type) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelCsvWriter writer = new ExcelCsvWriter(outputStream, type, StandardCharsets.UTF_8)) {
+            writer.write(datas.get(0).getClass(), datas.iterator(), null, true);
+            assertEquals(datas.size(), writer.getRowsWritten());
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    public static class Text implements ExcelBeanValidator {
+        @ExcelProperty(name = "Name")
+        private String name;
+
+        @ExcelProperty(name = "Remark")
+        private String remark;
+
+        public Text(final String name, final String remark) {
+            this.name = name;
+            this.remark = remark;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getRemark() {
+            return remark;
+        }
+    }
+
+    public static class Numbers implements ExcelBeanValidator {
+        @ExcelProperty(name = "Long")
+        private long longValue;
+
+        @ExcelProperty(name = "BoxedLong")
+        private Long boxedLong;
+
+        @ExcelProperty(name = "Double")
+        private double doubleValue;
+
+        @ExcelProperty(name = "Float")
+        private float floatValue;
+
+        @ExcelProperty(name = "BoxedDouble")
+        private Double boxedDouble;
+
+        @ExcelProperty(name = "Int")
+        private int intValue;
+
+        public Numbers(final long longValue, final Long boxedLong, final double doubleValue, final float floatValue,
+                       final Double boxedDouble, final int intValue) {
+            this.longValue = longValue;
+            this.boxedLong = boxedLong;
+            this.doubleValue = doubleValue;
+            this.floatValue = floatValue;
+            this.boxedDouble = boxedDouble;
+            this.intValue = intValue;
+        }
+
+        public long getLongValue() {
+            return longValue;
+        }
+
+        public Long getBoxedLong() {
+            return boxedLong;
+        }
+
+        public double getDoubleValue() {
+            return doubleValue;
+        }
+
+        public float getFloatValue() {
+            return floatValue;
+        }
+
+        public Double getBoxedDouble() {
+            return boxedDouble;
+        }
+
+        public int getIntValue() {
+            return intValue;
+        }
+    }
+}
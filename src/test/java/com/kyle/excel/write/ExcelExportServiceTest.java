@@ -0,0 +1,221 @@
+package com.kyle.excel.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.kyle.excel.ExcelTestTemplates;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 异步导出服务测试
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelExportServiceTest
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 12:00
+ */
+public class ExcelExportServiceTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File template;
+    private ExcelExportService service;
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Before
+    public void setUp() throws IOException {
+        template = ExcelTestTemplates.createTemplate(folder.newFile("template.xlsx"));
+        ExcelExportServiceConfig config = new ExcelExportServiceConfig();
+        config.setWorkerThreads(1);
+        config.setQueueCapacity(1);
+        config.setMemoryBudgetBytes(300);
+        config.setDefaultJobMemoryBytes(100);
+        service = new ExcelExportService(config);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        release.countDown();
+        service.shutdownNow();
+        service.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void exportsToTargetWithoutLeavingTempFiles() throws Exception {
+        Path target = target("done.xlsx");
+
+        Path result = service.submit(job(target, persons(3))).get(30, TimeUnit.SECONDS);
+
+        assertEquals(target, result);
+        assertTrue(Files.exists(target));
+        assertEquals(0, tempFiles());
+        awaitIdle();
+        assertEquals(0, service.getReservedMemoryBytes());
+    }
+
+    @Test
+    public void rejectsWhenQueueIsFull() throws Exception {
+        CompletableFuture<Path> running = service.submit(job(target("running.xlsx"), blocking()));
+        assertTrue(started.await(30, TimeUnit.SECONDS));
+        service.submit(job(target("queued.xlsx"), persons(1)));
+
+        try {
+            service.submit(job(target("rejected.xlsx"), persons(1)));
+            fail("expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Export queue is full"));
+        }
+        assertEquals(1, service.getRejectedCount());
+        assertEquals(200, service.getReservedMemoryBytes());
+
+        release.countDown();
+        running.get(30, TimeUnit.SECONDS);
+        awaitIdle();
+        assertEquals(0, service.getReservedMemoryBytes());
+    }
+
+    @Test
+    public void rejectsWhenMemoryBudgetIsExhausted() throws Exception {
+        ExcelExportJob large = job(target("large.xlsx"), blocking());
+        large.setMemoryBytes(250);
+        CompletableFuture<Path> running = service.submit(large);
+        assertTrue(started.await(30, TimeUnit.SECONDS));
+
+        try {
+            service.submit(job(target("small.xlsx"), persons(1)));
+            fail("expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Export memory budget exhausted"));
+        }
+        assertEquals(250, service.getReservedMemoryBytes());
+
+        release.countDown();
+        running.get(30, TimeUnit.SECONDS);
+        awaitIdle();
+        assertEquals(0, service.getReservedMemoryBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsJobLargerThanBudget() {
+        ExcelExportJob job = job(target("huge.xlsx"), persons(1));
+        job.setMemoryBytes(301);
+        service.submit(job);
+    }
+
+    @Test
+    public void cancellingQueuedJobReleasesItsBudget() throws Exception {
+        CompletableFuture<Path> running = service.submit(job(target("running.xlsx"), blocking()));
+        assertTrue(started.await(30, TimeUnit.SECONDS));
+        Path queuedTarget = target("queued.xlsx");
+        CompletableFuture<Path> queued = service.submit(job(queuedTarget, persons(1)));
+        assertEquals(1, service.getQueuedJobs());
+
+        assertTrue(queued.cancel(true));
+
+        assertEquals(0, service.getQueuedJobs());
+        assertEquals(100, service.getReservedMemoryBytes());
+        release.countDown();
+        running.get(30, TimeUnit.SECONDS);
+        awaitIdle();
+        assertFalse(Files.exists(queuedTarget));
+        assertEquals(0, service.getReservedMemoryBytes());
+    }
+
+    @Test
+    public void cancellingRunningJobLeavesTargetUntouched() throws Exception {
+        Path target = target("cancelled.xlsx");
+        CompletableFuture<Path> running = service.submit(job(target, blocking()));
+        assertTrue(started.await(30, TimeUnit.SECONDS));
+
+        assertTrue(running.cancel(true));
+
+        try {
+            running.get(30, TimeUnit.SECONDS);
+            fail("expected CancellationException");
+        } catch (CancellationException e) {
+            // 已取消
+        }
+        awaitIdle();
+        assertFalse(Files.exists(target));
+        assertEquals(0, tempFiles());
+        assertEquals(0, service.getReservedMemoryBytes());
+    }
+
+    @Test
+    public void failedJobCompletesExceptionally() throws Exception {
+        Path target = target("failed.xlsx");
+        CompletableFuture<Path> future = service.submit(job(target, writer -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        try {
+            future.get(30, TimeUnit.SECONDS);
+            fail("expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertEquals("boom", e.getCause().getMessage());
+        }
+        awaitIdle();
+        assertFalse(Files.exists(target));
+        assertEquals(0, tempFiles());
+        assertEquals(0, service.getReservedMemoryBytes());
+    }
+
+    private ExcelExportJob job(final Path target, final Consumer<ExcelWriter> content) {
+        return new ExcelExportJob(template.getPath(), target, content);
+    }
+
+    private static Consumer<ExcelWriter> persons(final int count) {
+        return writer -> writer.write(ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX,
+                ExcelTestTemplates.persons(count), null);
+    }
+
+    /**
+     * 开始执行后一直等待，直到 release 或线程被中断
+     */
+    private Consumer<ExcelWriter> blocking() {
+        return writer -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            persons(1).accept(writer);
+        };
+    }
+
+    private Path target(final String name) {
+        return new File(folder.getRoot(), name).toPath();
+    }
+
+    private int tempFiles() {
+        return folder.getRoot().list((directory, name) -> name.endsWith(".tmp")).length;
+    }
+
+    /**
+     * 关闭服务并等待已提交的任务结束，之后预留的内存都已释放
+     */
+    private void awaitIdle() throws InterruptedException {
+        service.shutdown();
+        assertTrue(service.awaitTermination(30, TimeUnit.SECONDS));
+    }
+}
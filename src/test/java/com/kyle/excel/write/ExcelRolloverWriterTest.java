@@ -0,0 +1,135 @@
+package com.kyle.excel.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.kyle.excel.ExcelSugar;
+import com.kyle.excel.ExcelTestPerson;
+import com.kyle.excel.ExcelTestTemplates;
+import com.kyle.excel.enums.ExcelRolloverModeEnum;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 拆分写入测试
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelRolloverWriterTest
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 11:20
+ */
+public class ExcelRolloverWriterTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File template;
+
+    @Before
+    public void setUp() throws IOException {
+        template = ExcelTestTemplates.createTemplate(folder.newFile("template.xlsx"));
+    }
+
+    @Test
+    public void partFileNamesAreNumberedFromOne() {
+        String base = new File("data", "report.xlsx").getAbsolutePath();
+        String directory = new File("data").getAbsolutePath() + File.separator;
+
+        assertEquals(directory + "report-001.xlsx", ExcelRolloverWriter.getPartFileName(base, 1));
+        assertEquals(directory + "report-012.xlsx", ExcelRolloverWriter.getPartFileName(base, 12));
+        assertEquals(directory + "report-1000.xlsx", ExcelRolloverWriter.getPartFileName(base, 1000));
+    }
+
+    @Test
+    public void splitsIntoFiles() throws IOException {
+        List<String> fileNames = write(25, ExcelWriteConfig.streaming(100), new ExcelRolloverConfig(ExcelRolloverModeEnum.FILE, 10));
+
+        assertEquals(Arrays.asList(part(1), part(2), part(3)), fileNames);
+        int[] expectedRows = {10, 10, 5};
+        for (int i = 0; i < fileNames.size(); i++) {
+            try (Workbook workbook = WorkbookFactory.create(new File(fileNames.get(i)))) {
+                assertEquals(1, workbook.getNumberOfSheets());
+                assertPart(workbook.getSheetAt(0), i * 10, expectedRows[i]);
+            }
+        }
+    }
+
+    @Test
+    public void splitsIntoSheets() throws IOException {
+        List<String> fileNames = write(25, null, new ExcelRolloverConfig(ExcelRolloverModeEnum.SHEET, 10));
+
+        assertEquals(Collections.singletonList(target().getPath()), fileNames);
+        try (Workbook workbook = WorkbookFactory.create(target())) {
+            assertEquals(3, workbook.getNumberOfSheets());
+            assertEquals("data", workbook.getSheetName(0));
+            assertEquals("data (2)", workbook.getSheetName(1));
+            assertEquals("data (3)", workbook.getSheetName(2));
+            assertPart(workbook.getSheetAt(0), 0, 10);
+            assertPart(workbook.getSheetAt(1), 10, 10);
+            assertPart(workbook.getSheetAt(2), 20, 5);
+        }
+    }
+
+    @Test
+    public void exactMultipleDoesNotAddAnEmptyFile() {
+        List<String> fileNames = write(20, null, new ExcelRolloverConfig(ExcelRolloverModeEnum.FILE, 10));
+
+        assertEquals(Arrays.asList(part(1), part(2)), fileNames);
+    }
+
+    @Test
+    public void splitsByEstimatedBytes() throws IOException {
+        ExcelRolloverConfig rollover = new ExcelRolloverConfig();
+        rollover.setMaxBytes(2_000);
+        List<String> fileNames = write(100, null, rollover);
+
+        assertTrue(fileNames.toString(), fileNames.size() > 1);
+        int rows = 0;
+        for (String fileName : fileNames) {
+            try (Workbook workbook = WorkbookFactory.create(new File(fileName))) {
+                Sheet sheet = workbook.getSheetAt(0);
+                assertEquals("p" + rows, sheet.getRow(ExcelTestTemplates.START_ROW_INDEX).getCell(0).getStringCellValue());
+                rows += sheet.getLastRowNum() - ExcelTestTemplates.START_ROW_INDEX + 1;
+            }
+        }
+        assertEquals(100, rows);
+    }
+
+    private List<String> write(final int count, final ExcelWriteConfig config, final ExcelRolloverConfig rollover) {
+        return ExcelSugar.saveAsExcel(template.getPath(), ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX,
+                ExcelTestPerson.class, ExcelTestTemplates.persons(count).iterator(), null, target().getPath(), config, rollover);
+    }
+
+    private File target() {
+        return new File(folder.getRoot(), "report.xlsx");
+    }
+
+    private String part(final int part) {
+        return ExcelRolloverWriter.getPartFileName(target().getPath(), part);
+    }
+
+    /**
+     * 每个拆分都保留模板的标题、列头和数据行样式
+     */
+    private static void assertPart(final Sheet sheet, final int firstPerson, final int rows) {
+        assertEquals("Title", sheet.getRow(0).getCell(0).getStringCellValue());
+        assertEquals("Name", sheet.getRow(1).getCell(0).getStringCellValue());
+        assertEquals(ExcelTestTemplates.START_ROW_INDEX + rows - 1, sheet.getLastRowNum());
+        for (int i = 0; i < rows; i++) {
+            assertEquals("p" + (firstPerson + i),
+                    sheet.getRow(ExcelTestTemplates.START_ROW_INDEX + i).getCell(0).getStringCellValue());
+        }
+        assertEquals(BorderStyle.THIN, sheet.getRow(ExcelTestTemplates.START_ROW_INDEX).getCell(0).getCellStyle().getBorderBottom());
+    }
+}
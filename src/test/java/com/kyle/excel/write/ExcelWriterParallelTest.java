@@ -0,0 +1,207 @@
+package com.kyle.excel.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.kyle.excel.ExcelTestPerson;
+import com.kyle.excel.ExcelTestTemplates;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 并行转换写入测试：批次按读取顺序写入，预读的批次数有上限，转换中的异常原样抛出
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelWriterParallelTest
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 15:40
+ */
+public class ExcelWriterParallelTest {
+    private static final int BATCH_SIZE = 3;
+    private static final int MAX_IN_FLIGHT_BATCHES = 2;
+    private static final int COUNT = 50;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File template;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws IOException {
+        template = ExcelTestTemplates.createTemplate(folder.newFile("template.xls"));
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void writesRowsInInputOrder() throws IOException {
+        try (ExcelWriter writer = open(parallelConfig())) {
+            writer.write(ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX, ExcelTestPerson.class,
+                    ExcelTestTemplates.persons(COUNT).iterator(), null);
+
+            Sheet sheet = writer.getTemplateSheet(ExcelTestTemplates.SHEET_INDEX);
+            assertEquals(COUNT, writtenRows(sheet));
+            for (int i = 0; i < COUNT; i++) {
+                Row row = sheet.getRow(ExcelTestTemplates.START_ROW_INDEX + i);
+                assertEquals("p" + i, row.getCell(0).getStringCellValue());
+                assertEquals(i, (int) row.getCell(1).getNumericCellValue());
+            }
+        }
+    }
+
+    @Test
+    public void readsAtMostOneBatchBeyondTheInFlightLimit() throws IOException {
+        try (ExcelWriter writer = open(parallelConfig())) {
+            CountingIterator datas = new CountingIterator(ExcelTestTemplates.persons(COUNT).iterator(),
+                    writer.getTemplateSheet(ExcelTestTemplates.SHEET_INDEX));
+            writer.write(ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX, ExcelTestPerson.class, datas, null);
+
+            assertEquals(COUNT, datas.pulled);
+            assertTrue("read ahead " + datas.maxAhead + " rows",
+                    datas.maxAhead <= (MAX_IN_FLIGHT_BATCHES + 1) * BATCH_SIZE);
+            // 写入第一批之前已经预读了多个批次，说明转换确实在并行进行
+            assertTrue("read ahead " + datas.maxAhead + " rows", datas.maxAhead > BATCH_SIZE);
+        }
+    }
+
+    @Test
+    public void rethrowsTheOriginalConversionException() throws IOException {
+        List<ExcelTestPerson> persons = ExcelTestTemplates.persons(COUNT);
+        persons.set(20, new FailingPerson());
+
+        try (ExcelWriter writer = open(parallelConfig())) {
+            writer.write(ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX, ExcelTestPerson.class,
+                    persons.iterator(), null);
+            fail("conversion failure was not rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals(FailingPerson.MESSAGE, e.getMessage());
+        }
+    }
+
+    @Test
+    public void matchesSequentialOutput() throws IOException {
+        List<ExcelTestPerson> persons = ExcelTestTemplates.persons(COUNT);
+        try (ExcelWriter parallel = open(parallelConfig()); ExcelWriter sequential = open(null)) {
+            parallel.write(ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX, ExcelTestPerson.class,
+                    persons.iterator(), null);
+            sequential.write(ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX, ExcelTestPerson.class,
+                    persons.iterator(), null);
+
+            Sheet expected = sequential.getTemplateSheet(ExcelTestTemplates.SHEET_INDEX);
+            Sheet actual = parallel.getTemplateSheet(ExcelTestTemplates.SHEET_INDEX);
+            DataFormatter formatter = new DataFormatter();
+            assertEquals(expected.getLastRowNum(), actual.getLastRowNum());
+            for (int r = ExcelTestTemplates.START_ROW_INDEX; r <= expected.getLastRowNum(); r++) {
+                for (int c = 0; c < ExcelTestTemplates.HEADERS.length; c++) {
+                    Cell expectedCell = expected.getRow(r).getCell(c);
+                    Cell actualCell = actual.getRow(r).getCell(c);
+                    String at = "row " + r + ", column " + c;
+                    if (expectedCell == null) {
+                        assertNull(at, actualCell);
+                        continue;
+                    }
+                    assertEquals(at, expectedCell.getCellType(), actualCell.getCellType());
+                    assertEquals(at, formatter.formatCellValue(expectedCell), formatter.formatCellValue(actualCell));
+                    assertEquals(at, expectedCell.getCellStyle().getIndex(), actualCell.getCellStyle().getIndex());
+                }
+            }
+        }
+    }
+
+    private ExcelWriteConfig parallelConfig() {
+        ExcelWriteConfig config = new ExcelWriteConfig();
+        config.setParallelConversion(true);
+        config.setParallelBatchSize(BATCH_SIZE);
+        config.setMaxInFlightBatches(MAX_IN_FLIGHT_BATCHES);
+        config.setExecutor(executor);
+        return config;
+    }
+
+    private ExcelWriter open(final ExcelWriteConfig config) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(template.toPath())) {
+            return new ExcelWriter(inputStream, true, config);
+        }
+    }
+
+    /**
+     * 已写入的数据行数：从起始行开始第一列有值的连续行
+     */
+    private static int writtenRows(final Sheet sheet) {
+        int rows = 0;
+        for (int r = ExcelTestTemplates.START_ROW_INDEX; ; r++, rows++) {
+            Row row = sheet.getRow(r);
+            Cell cell = row != null ? row.getCell(0) : null;
+            if (cell == null || cell.getCellType() != CellType.STRING || cell.getStringCellValue().isEmpty()) {
+                return rows;
+            }
+        }
+    }
+
+    /**
+     * 记录读取的行数，以及读取时已读取未写入的最大行数；写入与读取都在调用 write 的线程中进行
+     */
+    private static final class CountingIterator implements Iterator<ExcelTestPerson> {
+        private final Iterator<ExcelTestPerson> datas;
+        private final Sheet sheet;
+        private int pulled;
+        private int maxAhead;
+
+        private CountingIterator(final Iterator<ExcelTestPerson> datas, final Sheet sheet) {
+            this.datas = datas;
+            this.sheet = sheet;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return datas.hasNext();
+        }
+
+        @Override
+        public ExcelTestPerson next() {
+            pulled++;
+            maxAhead = Math.max(maxAhead, pulled - writtenRows(sheet));
+            return datas.next();
+        }
+    }
+
+    /**
+     * 读取名称时抛出异常的Bean
+     */
+    public static class FailingPerson extends ExcelTestPerson {
+        static final String MESSAGE = "name is not available";
+
+        public FailingPerson() {
+            super("failing", 0, 0d, new Date());
+        }
+
+        @Override
+        public String getName() {
+            throw new IllegalStateException(MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.kyle.excel.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import com.kyle.excel.ExcelTestTemplates;
+import org.apache.commons.io.IOUtils;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * zip打包写入测试
+ *
+ * @package: com.kyle.excel.write
+ * @className: ExcelZipWriterTest
+ * @author: Kyle.Y.Li
+ * @since 1.0.0 2026-10-19 11:40
+ */
+public class ExcelZipWriterTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File xlsxTemplate;
+    private File xlsTemplate;
+
+    @Before
+    public void setUp() throws IOException {
+        xlsxTemplate = ExcelTestTemplates.createTemplate(folder.newFile("template.xlsx"));
+        xlsTemplate = ExcelTestTemplates.createTemplate(folder.newFile("template.xls"));
+    }
+
+    @Test
+    public void writesOneWorkbookPerEntry() throws IOException {
+        TrackingOutputStream outputStream = new TrackingOutputStream();
+        try (ExcelZipWriter zipWriter = new ExcelZipWriter(outputStream)) {
+            zipWriter.putEntry("branch-1.xlsx", xlsxTemplate.getPath(), ExcelWriteConfig.streaming(10), writer -> writer.write(
+                    ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX, ExcelTestTemplates.persons(30), null));
+            zipWriter.putEntry("branch-2.xls", xlsTemplate.getPath(), null, writer -> writer.write(
+                    ExcelTestTemplates.SHEET_INDEX, ExcelTestTemplates.START_ROW_INDEX, ExcelTestTemplates.persons(5), null));
+            assertEquals(2, zipWriter.getEntryCount());
+        }
+        assertFalse("target stream must stay open", outputStream.closed);
+
+        List<String> entryNames = new ArrayList<String>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+                byte[] bytes = IOUtils.toByteArray(zipInputStream);
+                try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(bytes))) {
+                    boolean xls = entry.getName().endsWith(".xls");
+                    assertEquals(xls ? HSSFWorkbook.class : XSSFWorkbook.class, workbook.getClass());
+                    Sheet sheet = workbook.getSheetAt(ExcelTestTemplates.SHEET_INDEX);
+                    int rows = xls ? 5 : 30;
+                    assertEquals(ExcelTestTemplates.START_ROW_INDEX + rows - 1, sheet.getLastRowNum());
+                    assertEquals("p" + (rows - 1), sheet.getRow(sheet.getLastRowNum()).getCell(0).getStringCellValue());
+                }
+            }
+            assertNull(zipInputStream.getNextEntry());
+        }
+        assertEquals(2, entryNames.size());
+        assertEquals("branch-1.xlsx", entryNames.get(0));
+        assertEquals("branch-2.xls", entryNames.get(1));
+    }
+
+    @Test
+    public void writesAnEmptyArchive() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelZipWriter zipWriter = new ExcelZipWriter(outputStream)) {
+            assertEquals(0, zipWriter.getEntryCount());
+        }
+
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertNull(zipInputStream.getNextEntry());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsBlankEntryName() throws IOException {
+        try (ExcelZipWriter zipWriter = new ExcelZipWriter(new ByteArrayOutputStream());
+             ExcelWriter writer = new ExcelWriter(xlsxTemplate.getPath(), null)) {
+            zipWriter.putEntry(" ", writer);
+        }
+    }
+
+    /**
+     * 记录是否被关闭的输出流
+     */
+    private static final class TrackingOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}